@@ -0,0 +1,141 @@
+package de.muenchen.refarch.benchmark;
+
+import de.muenchen.refarch.globalsettings.GlobalSettings;
+import de.muenchen.refarch.homepage.Homepage;
+import de.muenchen.refarch.homepage.content.HomepageContent;
+import de.muenchen.refarch.language.Language;
+import de.muenchen.refarch.link.Link;
+import de.muenchen.refarch.page.Page;
+import de.muenchen.refarch.page.content.PageContent;
+import de.muenchen.refarch.post.Post;
+import de.muenchen.refarch.post.content.PostContent;
+import de.muenchen.refarch.role.Role;
+import de.muenchen.refarch.user.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Detached entity graphs shaped like the ones loaded by the services, shared by all benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private BenchmarkFixtures() {
+        // Utility class
+    }
+
+    static Link link() {
+        final Link link = new Link();
+        link.setId(UUID.randomUUID());
+        link.setName("Benchmark");
+        link.setUrl("/benchmark");
+        link.setFontAwesomeIcon("fa-flask");
+        link.setMdiIcon("mdi-flask");
+        return link;
+    }
+
+    static List<Language> languages(final int count) {
+        final List<Language> languages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Language language = new Language();
+            language.setId(UUID.randomUUID());
+            language.setName("Language " + i);
+            language.setAbbreviation("l" + i);
+            languages.add(language);
+        }
+        return languages;
+    }
+
+    static Page page(final List<Language> languages) {
+        final Page page = new Page();
+        page.setId(UUID.randomUUID());
+        page.setLink(link());
+        page.setCreatedAt(NOW);
+        page.setUpdatedAt(NOW);
+        for (final Language language : languages) {
+            final PageContent content = new PageContent();
+            content.setId(UUID.randomUUID());
+            content.setLanguage(language);
+            content.setTitle("Title " + language.getAbbreviation());
+            content.setContent("Content " + language.getAbbreviation());
+            content.setCreatedAt(NOW);
+            content.setUpdatedAt(NOW);
+            page.addContent(content);
+        }
+        return page;
+    }
+
+    static Post post() {
+        final Post post = new Post();
+        post.setId(UUID.randomUUID());
+        post.setLink(link());
+        post.setCreatedAt(NOW);
+        post.setUpdatedAt(NOW);
+        return post;
+    }
+
+    static List<PostContent> postContents(final Post post, final List<Language> languages) {
+        final List<PostContent> contents = new ArrayList<>(languages.size());
+        for (final Language language : languages) {
+            final PostContent content = new PostContent();
+            content.setId(UUID.randomUUID());
+            content.setPost(post);
+            content.setLanguage(language);
+            content.setTitle("Title " + language.getAbbreviation());
+            content.setContent("Content " + language.getAbbreviation());
+            content.setCreatedAt(NOW);
+            content.setUpdatedAt(NOW);
+            contents.add(content);
+        }
+        return contents;
+    }
+
+    static Homepage homepage(final List<Language> languages) {
+        final Homepage homepage = new Homepage();
+        homepage.setId(UUID.randomUUID());
+        homepage.setLink(link());
+        homepage.setCreatedAt(NOW);
+        homepage.setUpdatedAt(NOW);
+        for (final Language language : languages) {
+            final HomepageContent content = new HomepageContent();
+            content.setId(UUID.randomUUID());
+            content.setLanguage(language);
+            content.setWelcomeMessage("Welcome " + language.getAbbreviation());
+            content.setCreatedAt(NOW);
+            content.setUpdatedAt(NOW);
+            homepage.addContent(content);
+        }
+        return homepage;
+    }
+
+    static User user(final String... roleNames) {
+        final User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("benchmark");
+        user.setEmail("benchmark@example.com");
+        user.setCreatedAt(NOW);
+        final List<Role> roles = new ArrayList<>(roleNames.length);
+        for (final String roleName : roleNames) {
+            final Role role = new Role();
+            role.setId(UUID.randomUUID());
+            role.setName(roleName);
+            roles.add(role);
+        }
+        user.setRoles(Set.copyOf(roles));
+        return user;
+    }
+
+    static GlobalSettings globalSettings() {
+        final GlobalSettings settings = new GlobalSettings();
+        settings.setId(UUID.randomUUID());
+        settings.setSessionDurationMinutes(60);
+        settings.setMaxItemsPerPage(100);
+        settings.setCreatedAt(NOW);
+        settings.setUpdatedAt(NOW);
+        return settings;
+    }
+}
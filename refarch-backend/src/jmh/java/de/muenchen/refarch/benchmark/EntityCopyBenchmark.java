@@ -0,0 +1,81 @@
+package de.muenchen.refarch.benchmark;
+
+import de.muenchen.refarch.common.EntityCopyUtils;
+import de.muenchen.refarch.homepage.Homepage;
+import de.muenchen.refarch.language.Language;
+import de.muenchen.refarch.link.Link;
+import de.muenchen.refarch.page.Page;
+import de.muenchen.refarch.post.Post;
+import de.muenchen.refarch.user.User;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the defensive copies made by {@link EntityCopyUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityCopyBenchmark {
+
+    private User user;
+    private Language language;
+    private Link link;
+    private Page page;
+    private Post post;
+    private Homepage homepage;
+
+    @Setup
+    public void setUp() {
+        final List<Language> languages = BenchmarkFixtures.languages(1);
+        user = BenchmarkFixtures.user("ROLE_USER", "ROLE_ADMIN");
+        language = languages.getFirst();
+        link = BenchmarkFixtures.link();
+        page = BenchmarkFixtures.page(languages);
+        post = BenchmarkFixtures.post();
+        homepage = BenchmarkFixtures.homepage(languages);
+    }
+
+    @Benchmark
+    public User copyUser() {
+        return EntityCopyUtils.copyUser(user);
+    }
+
+    @Benchmark
+    public Language copyLanguage() {
+        return EntityCopyUtils.copyLanguage(language);
+    }
+
+    @Benchmark
+    public Link copyLink() {
+        return EntityCopyUtils.copyLink(link);
+    }
+
+    @Benchmark
+    public Page copyPage() {
+        return EntityCopyUtils.copyPage(page);
+    }
+
+    @Benchmark
+    public Post copyPost() {
+        return EntityCopyUtils.copyPost(post);
+    }
+
+    @Benchmark
+    public Homepage copyHomepage() {
+        return EntityCopyUtils.copyHomepage(homepage);
+    }
+}
@@ -0,0 +1,133 @@
+package de.muenchen.refarch.benchmark;
+
+import de.muenchen.refarch.comment.Comment;
+import de.muenchen.refarch.comment.CommentRepository;
+import de.muenchen.refarch.comment.CommentService;
+import de.muenchen.refarch.comment.dto.CommentResponseDTO;
+import de.muenchen.refarch.homepage.Homepage;
+import de.muenchen.refarch.homepage.HomepageRepository;
+import de.muenchen.refarch.homepage.HomepageService;
+import de.muenchen.refarch.homepage.dto.HomepageResponseDTO;
+import de.muenchen.refarch.language.Language;
+import de.muenchen.refarch.page.Page;
+import de.muenchen.refarch.page.PageRepository;
+import de.muenchen.refarch.page.PageService;
+import de.muenchen.refarch.page.dto.PageResponseDTO;
+import de.muenchen.refarch.post.Post;
+import de.muenchen.refarch.post.PostRepository;
+import de.muenchen.refarch.post.PostService;
+import de.muenchen.refarch.post.content.PostContentRepository;
+import de.muenchen.refarch.post.content.dto.PostContentResponseDTO;
+import de.muenchen.refarch.post.dto.PostResponseDTO;
+import de.muenchen.refarch.user.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of mapping entities to response DTOs in the services. Run with {@code -prof gc} and
+ * compare {@code gc.alloc.rate.norm} to see the bytes allocated per mapped request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMappingBenchmark {
+
+    @Param({ "3" })
+    private int languages;
+
+    @Param({ "20" })
+    private int comments;
+
+    private PageService pageService;
+    private PostService postService;
+    private HomepageService homepageService;
+    private CommentService commentService;
+    private UUID pageId;
+    private UUID postId;
+    private UUID homepageId;
+
+    @Setup
+    public void setUp() {
+        final List<Language> contentLanguages = BenchmarkFixtures.languages(languages);
+
+        final Page page = BenchmarkFixtures.page(contentLanguages);
+        pageId = page.getId();
+        final Post post = BenchmarkFixtures.post();
+        postId = post.getId();
+        final Homepage homepage = BenchmarkFixtures.homepage(contentLanguages);
+        homepageId = homepage.getId();
+
+        final User user = BenchmarkFixtures.user("ROLE_USER");
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Comment> postComments = new ArrayList<>(comments);
+        for (int i = 0; i < comments; i++) {
+            postComments.add(Comment.builder()
+                    .id(UUID.randomUUID())
+                    .content("Comment " + i)
+                    .postId(postId)
+                    .user(user)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        pageService = new PageService(
+                RepositoryStubs.stub(PageRepository.class, Map.of("findByIdWithContents", Optional.of(page))),
+                null, null, null, null, null, null);
+        postService = new PostService(
+                RepositoryStubs.stub(PostRepository.class, Map.of("findById", Optional.of(post))),
+                RepositoryStubs.stub(PostContentRepository.class,
+                        Map.of("findAllByPost", BenchmarkFixtures.postContents(post, contentLanguages))),
+                null, null, null, null, null);
+        homepageService = new HomepageService(
+                RepositoryStubs.stub(HomepageRepository.class, Map.of("findById", Optional.of(homepage))),
+                null, null, null, null, null);
+        commentService = new CommentService(
+                RepositoryStubs.stub(CommentRepository.class, Map.of("findByPostIdOrderByCreatedAtDesc", postComments)),
+                null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public PageResponseDTO mapPage() {
+        return pageService.findById(pageId);
+    }
+
+    @Benchmark
+    public PostResponseDTO mapPost() {
+        return postService.findById(postId);
+    }
+
+    @Benchmark
+    public List<PostContentResponseDTO> mapPostContents() {
+        return postService.findAllContentByPost(postId);
+    }
+
+    @Benchmark
+    public HomepageResponseDTO mapHomepage() {
+        return homepageService.findById(homepageId);
+    }
+
+    @Benchmark
+    public List<CommentResponseDTO> mapComments() {
+        return commentService.findByPostId(postId);
+    }
+}
@@ -0,0 +1,78 @@
+package de.muenchen.refarch.benchmark;
+
+import de.muenchen.refarch.auth.service.JwtAlgorithm;
+import de.muenchen.refarch.auth.service.JwtKeyRing;
+import de.muenchen.refarch.auth.service.JwtService;
+import de.muenchen.refarch.auth.service.VerifiedToken;
+import de.muenchen.refarch.auth.service.VerifiedTokenCache;
+import de.muenchen.refarch.configuration.CaffeineCacheProperties;
+import de.muenchen.refarch.configuration.JwtProperties;
+import de.muenchen.refarch.globalsettings.GlobalSettingsRepository;
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
+import de.muenchen.refarch.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures signing and verifying the locally issued tokens per signature algorithm, which happens on every
+ * login and on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    @Param({ "RS256", "ES256", "EDDSA" })
+    private JwtAlgorithm algorithm;
+
+    private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        final GlobalSettingsRepository settingsRepository = RepositoryStubs.stub(GlobalSettingsRepository.class,
+                Map.of("findAll", List.of(BenchmarkFixtures.globalSettings())));
+        final JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAlgorithm(algorithm);
+        jwtService = new JwtService(new GlobalSettingsService(settingsRepository, event -> {
+        }), new JwtKeyRing(jwtProperties, event -> {
+        }));
+        user = BenchmarkFixtures.user("ROLE_USER", "ROLE_ADMIN");
+        token = jwtService.generateToken(user);
+        verifiedTokenCache = new VerifiedTokenCache(jwtService, new CaffeineCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached() {
+        return verifiedTokenCache.verify(token);
+    }
+}
@@ -0,0 +1,89 @@
+package de.muenchen.refarch.benchmark;
+
+import de.muenchen.refarch.configuration.nfcconverter.NfcHelper;
+import de.muenchen.refarch.configuration.nfcconverter.NfcRequest;
+import de.muenchen.refarch.configuration.nfcconverter.NfcServletInputStream;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Measures NFC normalization of request data on small and large payloads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NfcBenchmark {
+
+    private static final String JSON_CONTENT_TYPE = "application/json";
+
+    /**
+     * Approximate payload size in characters.
+     */
+    @Param({ "256", "65536" })
+    private int size;
+
+    /**
+     * Whether the payload contains decomposed characters that NFC has to compose.
+     */
+    @Param({ "true", "false" })
+    private boolean decomposed;
+
+    private String payload;
+    private NfcRequest request;
+
+    @Setup
+    public void setUp() {
+        final String value = decomposed ? "Mu\u0308nchen Stra\u00dfe Cafe\u0301 " : "Muenchen Strasse Cafe ";
+        final StringBuilder json = new StringBuilder(size + 64).append("{\"items\":[");
+        while (json.length() < size) {
+            json.append("{\"title\":\"").append(value).append("\"},");
+        }
+        json.setCharAt(json.length() - 1, ']');
+        payload = json.append('}').toString();
+
+        final byte[] body = payload.getBytes(StandardCharsets.UTF_8);
+        final MockHttpServletRequest original = new MockHttpServletRequest("POST", "/api/pages");
+        original.setContentType(JSON_CONTENT_TYPE);
+        original.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request = new NfcRequest(new HttpServletRequestWrapper(original) {
+            @Override
+            public ServletInputStream getInputStream() {
+                // Bulk reads like a servlet container, unlike the per-byte reads of the Spring mock
+                return new NfcServletInputStream(new ByteArrayInputStream(body));
+            }
+        }, Set.of(JSON_CONTENT_TYPE));
+    }
+
+    @Benchmark
+    public String nfcConverter() {
+        return NfcHelper.nfcConverter(payload);
+    }
+
+    @Benchmark
+    public byte[] requestInputStream() throws IOException {
+        try (InputStream in = request.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package de.muenchen.refarch.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Minimal repository stand-ins for benchmarks. Each stub answers a fixed set of method names with canned
+ * results, so no mocking framework overhead ends up in the measured allocation.
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+        // Utility class
+    }
+
+    /**
+     * Creates a stub of the given repository interface.
+     *
+     * @param type repository interface
+     * @param answers return value per method name
+     * @param <T> repository type
+     * @return the stub
+     */
+    static <T> T stub(final Class<T> type, final Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    if (answers.containsKey(method.getName())) {
+                        return answers.get(method.getName());
+                    }
+                    if ("toString".equals(method.getName())) {
+                        return type.getSimpleName() + "Stub";
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+}
@@ -0,0 +1,156 @@
+package de.muenchen.refarch.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Compares request handling on platform threads, as with the default Tomcat pool, and on virtual
+ * threads, as with the {@code virtual-threads} profile. A request blocks on the userinfo endpoint
+ * without a database connection and then on a query holding one of the pooled connections, both
+ * simulated by sleeping. Throughput is measured with many requests in flight, latency percentiles
+ * of single requests while a background load keeps the server busy.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class RequestExecutionBenchmark {
+
+    /**
+     * Default {@code server.tomcat.threads.max}
+     */
+    private static final int TOMCAT_THREADS = 200;
+    /**
+     * Default Hikari {@code maximum-pool-size}, the same for both modes
+     */
+    private static final int CONNECTION_POOL_SIZE = 10;
+    private static final long QUERY_MILLIS = 1;
+    private static final int CONCURRENT_REQUESTS = 1000;
+    private static final int BACKGROUND_REQUESTS = 500;
+
+    @Param({ "platform", "virtual" })
+    private String threads;
+
+    /**
+     * Latency of the userinfo call, normal and during a latency spike of the identity provider
+     */
+    @Param({ "5", "50" })
+    private long userInfoMillis;
+
+    private ExecutorService executor;
+    private Semaphore connectionPool;
+    private Semaphore backgroundSlots;
+    private volatile boolean running;
+    private Thread loadGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_THREADS);
+        connectionPool = new Semaphore(CONNECTION_POOL_SIZE, true);
+        backgroundSlots = new Semaphore(BACKGROUND_REQUESTS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Keeps {@link #BACKGROUND_REQUESTS} requests in flight while single requests are sampled.
+     */
+    @Setup(Level.Iteration)
+    public void startBackgroundLoad(final BenchmarkParams params) {
+        if (!params.getBenchmark().endsWith("requestLatency")) {
+            return;
+        }
+        running = true;
+        loadGenerator = Thread.ofPlatform().daemon().start(() -> {
+            while (running) {
+                try {
+                    backgroundSlots.acquire();
+                    executor.execute(() -> {
+                        try {
+                            handleRequest();
+                        } finally {
+                            backgroundSlots.release();
+                        }
+                    });
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopBackgroundLoad() throws InterruptedException {
+        running = false;
+        if (loadGenerator != null) {
+            loadGenerator.interrupt();
+            loadGenerator.join();
+            loadGenerator = null;
+        }
+        // let the requests in flight finish before the next iteration
+        backgroundSlots.acquire(BACKGROUND_REQUESTS);
+        backgroundSlots.release(BACKGROUND_REQUESTS);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public void throughput() throws InterruptedException, ExecutionException {
+        final List<Future<?>> requests = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            requests.add(executor.submit(this::handleRequest));
+        }
+        for (final Future<?> request : requests) {
+            request.get();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public void requestLatency() throws InterruptedException, ExecutionException {
+        executor.submit(this::handleRequest).get();
+    }
+
+    private void handleRequest() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(userInfoMillis);
+            connectionPool.acquire();
+            try {
+                TimeUnit.MILLISECONDS.sleep(QUERY_MILLIS);
+            } finally {
+                connectionPool.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
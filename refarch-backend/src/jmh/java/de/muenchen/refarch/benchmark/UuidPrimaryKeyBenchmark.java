@@ -0,0 +1,94 @@
+package de.muenchen.refarch.benchmark;
+
+import de.muenchen.refarch.TestConstants;
+import de.muenchen.refarch.common.UuidV7Generator;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Compares inserting rows with random (version 4) and time-ordered (version 7) primary keys into a
+ * PostgreSQL container. The size of the primary key index per row is printed after each trial.
+ * <p>
+ * Needs a running Docker daemon.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidPrimaryKeyBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({ "random", "v7" })
+    private String generator;
+
+    private PostgreSQLContainer<?> container;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        container = new PostgreSQLContainer<>(DockerImageName.parse(TestConstants.TESTCONTAINERS_POSTGRES_IMAGE));
+        container.start();
+        connection = DriverManager.getConnection(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE comments (id UUID PRIMARY KEY, content TEXT NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+        }
+        insert = connection.prepareStatement("INSERT INTO comments (id, content) VALUES (?, ?)");
+        ids = "v7".equals(generator) ? UuidV7Generator::generate : UUID::randomUUID;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, ids.get());
+            insert.setString(2, "comment");
+            insert.addBatch();
+        }
+        return insert.executeBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("SELECT count(*), pg_relation_size('comments_pkey') FROM comments")) {
+            result.next();
+            final long rows = result.getLong(1);
+            final long indexBytes = result.getLong(2);
+            System.out.printf("%n%s: %d rows, primary key index %d KiB, %.1f bytes per row%n",
+                    generator, rows, indexBytes / 1024, (double) indexBytes / rows);
+        } finally {
+            insert.close();
+            connection.close();
+            container.stop();
+        }
+    }
+}
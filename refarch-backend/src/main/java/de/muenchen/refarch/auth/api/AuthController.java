@@ -1,6 +1,9 @@
 package de.muenchen.refarch.auth.api;
 
 import de.muenchen.refarch.auth.service.JwtService;
+import de.muenchen.refarch.auth.service.LoginCapacityExceededException;
+import de.muenchen.refarch.auth.service.TokenRevocationService;
+import de.muenchen.refarch.auth.service.VerifiedToken;
 import de.muenchen.refarch.auth.service.UserAuthenticationService;
 import de.muenchen.refarch.auth.token.RefreshToken;
 import de.muenchen.refarch.auth.token.RefreshTokenService;
@@ -8,6 +11,7 @@ import de.muenchen.refarch.user.User;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/auth")
@@ -22,9 +27,11 @@ import java.util.Map;
 @Slf4j
 public class AuthController {
     private static final String ERROR_KEY = "error";
+    private static final String LOGIN_RETRY_AFTER_SECONDS = "1";
     private final UserAuthenticationService authenticationService;
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     public record LoginRequest(String email, String password) {
     }
@@ -70,6 +77,12 @@ public class AuthController {
             return ResponseEntity
                     .status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of(ERROR_KEY, "Invalid credentials"));
+        } catch (LoginCapacityExceededException e) {
+            log.warn("Rejected login, password verification is saturated");
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, LOGIN_RETRY_AFTER_SECONDS)
+                    .body(Map.of(ERROR_KEY, "Too many concurrent logins, please retry"));
         } catch (Exception e) {
             log.error("Error during login for user: {}", request.email(), e);
             return ResponseEntity
@@ -103,10 +116,11 @@ public class AuthController {
         boolean validAccess = false;
         boolean validRefresh = false;
 
-        // Validate access token
+        // Revoke access token, so it cannot be used until it expires
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            final String token = authHeader.substring(7);
-            validAccess = jwtService.validateToken(token);
+            final Optional<VerifiedToken> token = jwtService.verify(authHeader.substring(7));
+            token.ifPresent(tokenRevocationService::revoke);
+            validAccess = token.isPresent();
         }
 
         // Invalidate refresh token if provided
@@ -0,0 +1,168 @@
+package de.muenchen.refarch.auth.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jca.JCAContext;
+import com.nimbusds.jose.util.Base64URL;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Set;
+
+/**
+ * Signature algorithms supported for the locally issued JWTs.
+ */
+public enum JwtAlgorithm {
+    /**
+     * RSASSA-PKCS1-v1_5 with SHA-256 and a 2048 bit key
+     */
+    RS256(JWSAlgorithm.RS256, "RSA"),
+    /**
+     * ECDSA on the P-256 curve with SHA-256
+     */
+    ES256(JWSAlgorithm.ES256, "EC"),
+    /**
+     * EdDSA on Curve25519
+     */
+    EDDSA(JWSAlgorithm.EdDSA, "Ed25519");
+
+    private static final int RSA_KEY_SIZE = 2048;
+    private static final String EC_CURVE = "secp256r1";
+    private static final int EC_FIELD_SIZE = 256;
+
+    private final JWSAlgorithm jws;
+    private final String keyAlgorithm;
+
+    JwtAlgorithm(final JWSAlgorithm jwsAlgorithm, final String keyAlgorithm) {
+        this.jws = jwsAlgorithm;
+        this.keyAlgorithm = keyAlgorithm;
+    }
+
+    public JWSAlgorithm jwsAlgorithm() {
+        return jws;
+    }
+
+    public KeyPair generateKeyPair() throws GeneralSecurityException {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm);
+        if (this == RS256) {
+            generator.initialize(RSA_KEY_SIZE);
+        } else if (this == ES256) {
+            generator.initialize(new ECGenParameterSpec(EC_CURVE));
+        }
+        return generator.generateKeyPair();
+    }
+
+    public JWSSigner signer(final PrivateKey privateKey) throws JOSEException {
+        return switch (this) {
+        case RS256 -> new RSASSASigner(privateKey);
+        case ES256 -> new ECDSASigner((ECPrivateKey) privateKey);
+        case EDDSA -> new Ed25519Signer(privateKey);
+        };
+    }
+
+    public JWSVerifier verifier(final PublicKey publicKey) throws JOSEException {
+        return switch (this) {
+        case RS256 -> new RSASSAVerifier((RSAPublicKey) publicKey);
+        case ES256 -> new ECDSAVerifier((ECPublicKey) publicKey);
+        case EDDSA -> new Ed25519Verifier(publicKey);
+        };
+    }
+
+    /**
+     * Returns the algorithm a public key is used with.
+     *
+     * @throws IllegalArgumentException if the key type or size is not supported
+     */
+    public static JwtAlgorithm forKey(final PublicKey publicKey) {
+        if (publicKey instanceof RSAPublicKey) {
+            return RS256;
+        }
+        if (publicKey instanceof ECPublicKey ec && ec.getParams().getCurve().getField().getFieldSize() == EC_FIELD_SIZE) {
+            return ES256;
+        }
+        if (publicKey instanceof EdECPublicKey ed && EDDSA.keyAlgorithm.equals(ed.getParams().getName())) {
+            return EDDSA;
+        }
+        throw new IllegalArgumentException("Unsupported key for signing JWTs: " + publicKey.getAlgorithm());
+    }
+
+    /**
+     * Signs with the Ed25519 implementation of the JDK, which Nimbus only supports through Tink.
+     */
+    private static final class Ed25519Signer implements JWSSigner {
+        private final PrivateKey privateKey;
+        private final JCAContext jcaContext = new JCAContext();
+
+        private Ed25519Signer(final PrivateKey privateKey) {
+            this.privateKey = privateKey;
+        }
+
+        @Override
+        public Base64URL sign(final JWSHeader header, final byte[] signingInput) throws JOSEException {
+            try {
+                final Signature signature = Signature.getInstance(EDDSA.keyAlgorithm);
+                signature.initSign(privateKey);
+                signature.update(signingInput);
+                return Base64URL.encode(signature.sign());
+            } catch (GeneralSecurityException e) {
+                throw new JOSEException("Ed25519 signing failed", e);
+            }
+        }
+
+        @Override
+        public Set<JWSAlgorithm> supportedJWSAlgorithms() {
+            return Set.of(JWSAlgorithm.EdDSA);
+        }
+
+        @Override
+        public JCAContext getJCAContext() {
+            return jcaContext;
+        }
+    }
+
+    private static final class Ed25519Verifier implements JWSVerifier {
+        private final PublicKey publicKey;
+        private final JCAContext jcaContext = new JCAContext();
+
+        private Ed25519Verifier(final PublicKey publicKey) {
+            this.publicKey = publicKey;
+        }
+
+        @Override
+        public boolean verify(final JWSHeader header, final byte[] signedContent, final Base64URL signature) throws JOSEException {
+            try {
+                final Signature verifier = Signature.getInstance(EDDSA.keyAlgorithm);
+                verifier.initVerify(publicKey);
+                verifier.update(signedContent);
+                return verifier.verify(signature.decode());
+            } catch (GeneralSecurityException e) {
+                throw new JOSEException("Ed25519 verification failed", e);
+            }
+        }
+
+        @Override
+        public Set<JWSAlgorithm> supportedJWSAlgorithms() {
+            return Set.of(JWSAlgorithm.EdDSA);
+        }
+
+        @Override
+        public JCAContext getJCAContext() {
+            return jcaContext;
+        }
+    }
+}
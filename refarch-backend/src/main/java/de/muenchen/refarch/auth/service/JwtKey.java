@@ -0,0 +1,19 @@
+package de.muenchen.refarch.auth.service;
+
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+
+/**
+ * One key of the {@link JwtKeyRing}.
+ *
+ * @param id key id, sent as {@code kid} in the token header
+ * @param algorithm algorithm of the key
+ * @param signer signer, or null if only the public key is known
+ * @param verifier verifier
+ */
+public record JwtKey(String id, JwtAlgorithm algorithm, JWSSigner signer, JWSVerifier verifier) {
+
+    public boolean canSign() {
+        return signer != null;
+    }
+}
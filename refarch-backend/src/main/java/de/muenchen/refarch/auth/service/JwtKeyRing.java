@@ -0,0 +1,191 @@
+package de.muenchen.refarch.auth.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.util.Base64URL;
+import de.muenchen.refarch.configuration.JwtProperties;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keys for signing and verifying the locally issued JWTs, selected by their key id.
+ * <p>
+ * Keys are read from {@code jwt.key-directory} and reloaded every {@code jwt.reload-interval}, so
+ * replicas share their keys and survive restarts. To rotate without downtime, first add the public
+ * key of the new key id everywhere, then its private key: tokens signed with the new key are then
+ * already accepted by every replica, and tokens of the old key stay valid as long as its public key
+ * is kept. A reload that changes the public keys publishes a {@link JwtKeysChangedEvent}.
+ */
+@Component
+@Slf4j
+public final class JwtKeyRing {
+    private static final String PUBLIC_KEY_SUFFIX = ".pub";
+    private static final String PRIVATE_KEY_SUFFIX = ".key";
+    private static final List<String> KEY_ALGORITHMS = List.of("Ed25519", "EC", "RSA");
+    private static final byte[] PROBE = "key-pair-probe".getBytes(StandardCharsets.US_ASCII);
+
+    private final JwtProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<Keys> keys = new AtomicReference<>();
+
+    public JwtKeyRing(final JwtProperties properties, final ApplicationEventPublisher eventPublisher) {
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        keys.set(properties.getKeyDirectory() == null ? generateKey() : loadKeys(properties.getKeyDirectory()));
+        log.info("Signing JWTs with key {} ({})", signingKey().id(), signingKey().algorithm());
+    }
+
+    /**
+     * Returns the key new tokens are signed with.
+     */
+    public JwtKey signingKey() {
+        return keys.get().signingKey();
+    }
+
+    /**
+     * Returns the key with the given id, if it is known.
+     */
+    public Optional<JwtKey> find(final String keyId) {
+        return keyId == null ? Optional.empty() : Optional.ofNullable(keys.get().byId().get(keyId));
+    }
+
+    /**
+     * Picks up added, removed and rotated keys. If the directory cannot be read, the previous keys
+     * stay in use.
+     */
+    @Scheduled(fixedDelayString = "${jwt.reload-interval:5m}", initialDelayString = "${jwt.reload-interval:5m}")
+    public void reload() {
+        if (properties.getKeyDirectory() == null) {
+            return;
+        }
+        try {
+            final Keys loaded = loadKeys(properties.getKeyDirectory());
+            final Keys previous = keys.getAndSet(loaded);
+            if (!previous.publicKeys().equals(loaded.publicKeys())
+                    || !previous.signingKey().id().equals(loaded.signingKey().id())) {
+                log.info("Reloaded JWT keys {}, signing with {}", loaded.byId().keySet(), loaded.signingKey().id());
+            }
+            if (!previous.publicKeys().equals(loaded.publicKeys())) {
+                eventPublisher.publishEvent(new JwtKeysChangedEvent(loaded.byId().keySet()));
+            }
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            log.error("Could not reload JWT keys, keeping the previous ones", e);
+        }
+    }
+
+    private Keys generateKey() {
+        log.warn("No jwt.key-directory configured, generating a key: tokens become invalid on restart "
+                + "and are not accepted by other instances");
+        try {
+            final KeyPair keyPair = properties.getAlgorithm().generateKeyPair();
+            final JwtKey key = toKey("generated-" + UUID.randomUUID(), keyPair.getPublic(), keyPair.getPrivate());
+            return new Keys(Map.of(key.id(), key), Map.of(key.id(), keyPair.getPublic()), key);
+        } catch (GeneralSecurityException | JOSEException e) {
+            throw new IllegalStateException("Could not generate JWT key", e);
+        }
+    }
+
+    private Keys loadKeys(final Path directory) {
+        final Map<String, JwtKey> byId = new HashMap<>();
+        final Map<String, PublicKey> publicKeys = new HashMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (final Path publicKeyFile : files.filter(file -> fileName(file).endsWith(PUBLIC_KEY_SUFFIX)).toList()) {
+                final String fileName = fileName(publicKeyFile);
+                final String keyId = fileName.substring(0, fileName.length() - PUBLIC_KEY_SUFFIX.length());
+                final Path privateKeyFile = directory.resolve(keyId + PRIVATE_KEY_SUFFIX);
+                final PublicKey publicKey = readKey(publicKeyFile, X509EncodedKeySpec::new, KeyFactory::generatePublic);
+                final PrivateKey privateKey = Files.exists(privateKeyFile)
+                        ? readKey(privateKeyFile, PKCS8EncodedKeySpec::new, KeyFactory::generatePrivate)
+                        : null;
+                byId.put(keyId, toKey(keyId, publicKey, privateKey));
+                publicKeys.put(keyId, publicKey);
+            }
+        } catch (IOException | GeneralSecurityException | JOSEException e) {
+            throw new IllegalStateException("Could not load JWT keys from " + directory, e);
+        }
+        return new Keys(Map.copyOf(byId), Map.copyOf(publicKeys), selectSigningKey(byId));
+    }
+
+    private JwtKey selectSigningKey(final Map<String, JwtKey> byId) {
+        final Optional<JwtKey> signingKey = properties.getActiveKeyId() == null
+                ? byId.values().stream()
+                        .filter(key -> key.canSign() && key.algorithm() == properties.getAlgorithm())
+                        .max(Comparator.comparing(JwtKey::id))
+                : Optional.ofNullable(byId.get(properties.getActiveKeyId())).filter(JwtKey::canSign);
+        return signingKey.orElseThrow(() -> new IllegalStateException("No private " + properties.getAlgorithm()
+                + " key" + (properties.getActiveKeyId() == null ? "" : " with id " + properties.getActiveKeyId())
+                + " in " + properties.getKeyDirectory()));
+    }
+
+    /**
+     * Creates the key, and checks that private and public key belong together.
+     */
+    private static JwtKey toKey(final String keyId, final PublicKey publicKey, final PrivateKey privateKey)
+            throws JOSEException {
+        final JwtAlgorithm algorithm = JwtAlgorithm.forKey(publicKey);
+        final JwtKey key = new JwtKey(keyId, algorithm, privateKey == null ? null : algorithm.signer(privateKey),
+                algorithm.verifier(publicKey));
+        if (key.canSign()) {
+            final JWSHeader header = new JWSHeader(algorithm.jwsAlgorithm());
+            final Base64URL signature = key.signer().sign(header, PROBE);
+            if (!key.verifier().verify(header, PROBE, signature)) {
+                throw new IllegalStateException("Private and public key of JWT key " + keyId + " do not match");
+            }
+        }
+        return key;
+    }
+
+    private static <S, K> K readKey(final Path file, final Function<byte[], S> spec, final KeyReader<S, K> reader)
+            throws IOException, GeneralSecurityException {
+        final String pem = Files.readString(file, StandardCharsets.US_ASCII);
+        final byte[] der = Base64.getMimeDecoder().decode(pem.replaceAll("-----[A-Z ]+-----", ""));
+        GeneralSecurityException failure = null;
+        for (final String algorithm : KEY_ALGORITHMS) {
+            try {
+                return reader.read(KeyFactory.getInstance(algorithm), spec.apply(der));
+            } catch (GeneralSecurityException e) {
+                failure = e;
+            }
+        }
+        throw new GeneralSecurityException("Unsupported key in " + file, failure);
+    }
+
+    private static String fileName(final Path file) {
+        return String.valueOf(file.getFileName());
+    }
+
+    @FunctionalInterface
+    private interface KeyReader<S, K> {
+        K read(KeyFactory keyFactory, S spec) throws GeneralSecurityException;
+    }
+
+    /**
+     * @param publicKeys the public keys by key id, compared on reload since they implement equals by
+     *            their encoding
+     */
+    private record Keys(Map<String, JwtKey> byId, Map<String, PublicKey> publicKeys, JwtKey signingKey) {
+    }
+}
@@ -0,0 +1,16 @@
+package de.muenchen.refarch.auth.service;
+
+import java.util.Set;
+
+/**
+ * Published by {@link JwtKeyRing} when a reload added, removed or replaced a public key, so tokens
+ * verified with the previous keys are verified again.
+ *
+ * @param keyIds the ids of the keys now known
+ */
+public record JwtKeysChangedEvent(Set<String> keyIds) {
+
+    public JwtKeysChangedEvent {
+        keyIds = Set.copyOf(keyIds);
+    }
+}
@@ -1,13 +1,7 @@
 package de.muenchen.refarch.auth.service;
 
-import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSSigner;
-import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.RSASSASigner;
-import com.nimbusds.jose.crypto.RSASSAVerifier;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import de.muenchen.refarch.globalsettings.GlobalSettingsService;
@@ -16,35 +10,27 @@ import de.muenchen.refarch.role.Role;
 import de.muenchen.refarch.user.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
-import jakarta.annotation.PostConstruct;
+import java.text.ParseException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JwtService {
-    private final GlobalSettingsService globalSettingsService;
+    private static final String AUTHORITIES_CLAIM = "authorities";
 
-    private RSAKey rsaKey;
-    private JWSSigner signer;
-    private JWSVerifier verifier;
-
-    @PostConstruct
-    public void init() throws Exception {
-        // Generate RSA key pair for signing/verifying JWTs
-        // In production, this should be loaded from secure configuration
-        rsaKey = new RSAKeyGenerator(2048)
-                .keyID("auth-key")
-                .generate();
-        signer = new RSASSASigner(rsaKey);
-        verifier = new RSASSAVerifier(rsaKey.toPublicJWK());
-    }
+    private final GlobalSettingsService globalSettingsService;
+    private final JwtKeyRing keyRing;
 
     public String generateToken(final User user) {
         try {
@@ -63,24 +49,26 @@ public class JwtService {
 
             // Build claims
             final JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                    .jwtID(UUID.randomUUID().toString())
                     .subject(user.getId().toString())
                     .issuer("refarch-cms")
                     .claim("email", user.getEmail())
                     .claim("username", user.getUsername())
-                    .claim("authorities", authorities)
+                    .claim(AUTHORITIES_CLAIM, authorities)
                     .claim("type", "password") // Distinguish from SSO tokens
                     .issueTime(Date.from(Instant.now()))
                     .expirationTime(Date.from(
                             Instant.now().plus(expirationMinutes, ChronoUnit.MINUTES)))
                     .build();
 
-            // Create and sign the JWT
+            // Create and sign the JWT with the active key
+            final JwtKey key = keyRing.signingKey();
             final SignedJWT signedJWT = new SignedJWT(
-                    new JWSHeader.Builder(JWSAlgorithm.RS256)
-                            .keyID(rsaKey.getKeyID())
+                    new JWSHeader.Builder(key.algorithm().jwsAlgorithm())
+                            .keyID(key.id())
                             .build(),
                     claims);
-            signedJWT.sign(signer);
+            signedJWT.sign(key.signer());
 
             return signedJWT.serialize();
         } catch (Exception e) {
@@ -90,36 +78,62 @@ public class JwtService {
     }
 
     public boolean validateToken(final String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * Parses the token once and checks signature, expiration and token type.
+     *
+     * @param token serialized JWT
+     * @return subject and authorities of the token, or empty if the token is not valid
+     */
+    public Optional<VerifiedToken> verify(final String token) {
         try {
             final SignedJWT signedJWT = SignedJWT.parse(token);
 
-            // Verify signature
-            if (!signedJWT.verify(verifier)) {
-                return false;
+            // Verify signature with the key named in the header, and only with its algorithm
+            final Optional<JwtKey> key = keyRing.find(signedJWT.getHeader().getKeyID());
+            if (key.isEmpty() || !verifySignature(signedJWT, key.get())) {
+                return Optional.empty();
             }
 
             // Verify expiration
             final JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
             final Date expiration = claims.getExpirationTime();
             if (expiration != null && expiration.before(new Date())) {
-                return false;
+                return Optional.empty();
             }
 
             // Verify it's a password-based token
-            final String type = claims.getStringClaim("type");
-            return "password".equals(type);
+            if (!"password".equals(claims.getStringClaim("type"))) {
+                return Optional.empty();
+            }
 
-        } catch (Exception e) {
-            return false;
+            final List<String> authorities = claims.getStringListClaim(AUTHORITIES_CLAIM);
+            return Optional.of(new VerifiedToken(
+                    claims.getSubject(),
+                    authorities == null ? List.of()
+                            : authorities.stream()
+                                    .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                                    .toList(),
+                    expiration == null ? null : expiration.toInstant(),
+                    tokenId(claims.getJWTID())));
+
+        } catch (ParseException | JOSEException e) {
+            return Optional.empty();
         }
     }
 
-    public JWTClaimsSet parseToken(final String token) {
+    private static UUID tokenId(final String jwtId) {
         try {
-            final SignedJWT signedJWT = SignedJWT.parse(token);
-            return signedJWT.getJWTClaimsSet();
-        } catch (Exception e) {
-            throw new RuntimeException("Error parsing JWT token", e);
+            return jwtId == null ? null : UUID.fromString(jwtId);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
+
+    private static boolean verifySignature(final SignedJWT signedJWT, final JwtKey key) throws JOSEException {
+        return key.algorithm().jwsAlgorithm().equals(signedJWT.getHeader().getAlgorithm())
+                && signedJWT.verify(key.verifier());
+    }
 }
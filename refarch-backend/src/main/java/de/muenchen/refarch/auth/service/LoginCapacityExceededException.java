@@ -0,0 +1,15 @@
+package de.muenchen.refarch.auth.service;
+
+import java.io.Serial;
+
+/**
+ * Thrown if too many logins are waiting for their password to be verified.
+ */
+public class LoginCapacityExceededException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public LoginCapacityExceededException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,103 @@
+package de.muenchen.refarch.auth.service;
+
+import de.muenchen.refarch.configuration.PasswordHashingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the deliberately expensive password hashing on a pool sized to the processors, so a burst of
+ * logins cannot occupy every request thread with BCrypt. If all threads are busy and the queue is
+ * full, the login fails fast with {@link LoginCapacityExceededException}.
+ */
+@Component
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class PasswordVerifier implements DisposableBean {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Counter rejectedLogins;
+
+    public PasswordVerifier(final PasswordEncoder passwordEncoder, final PasswordHashingProperties properties,
+            final MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        final int threads = properties.effectiveThreads();
+        final BlockingQueue<Runnable> queue = properties.getQueueCapacity() == 0
+                ? new SynchronousQueue<>()
+                : new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, queue,
+                new CustomizableThreadFactory("password-hashing-"), new ThreadPoolExecutor.AbortPolicy());
+        this.hashTimer = Timer.builder("auth.password.hash")
+                .description("Time spent hashing passwords")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue", queue, BlockingQueue::size)
+                .description("Password verifications waiting for a thread")
+                .register(meterRegistry);
+        this.rejectedLogins = Counter.builder("auth.password.rejected")
+                .description("Logins rejected because password hashing was saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks a password against its stored hash.
+     *
+     * @throws LoginCapacityExceededException if the hashing capacity is exhausted
+     */
+    public boolean matches(final String rawPassword, final String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hashes a password with the configured cost.
+     *
+     * @throws LoginCapacityExceededException if the hashing capacity is exhausted
+     */
+    public String encode(final String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Tells whether a stored hash has a lower cost than configured and should be replaced.
+     */
+    public boolean needsRehash(final String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(final Callable<T> hashing) {
+        final Future<T> result;
+        try {
+            result = executor.submit(() -> hashTimer.recordCallable(hashing));
+        } catch (RejectedExecutionException e) {
+            rejectedLogins.increment();
+            throw new LoginCapacityExceededException("Too many concurrent logins", e);
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
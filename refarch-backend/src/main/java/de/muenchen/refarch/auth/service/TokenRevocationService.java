@@ -0,0 +1,131 @@
+package de.muenchen.refarch.auth.service;
+
+import de.muenchen.refarch.auth.token.RevokedToken;
+import de.muenchen.refarch.auth.token.RevokedTokenRepository;
+import de.muenchen.refarch.common.UuidBloomFilter;
+import de.muenchen.refarch.configuration.JwtProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Revokes access tokens before their expiry, e.g. on logout.
+ * <p>
+ * Revocations are stored in the database and mirrored in memory on every instance, so checking a
+ * token on each request needs no database access: a Bloom filter answers for almost all tokens,
+ * only its rare positives are confirmed against the exact set. Instances read revocations of other
+ * instances incrementally every {@code jwt.revocation-sync-interval}.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    /**
+     * Revocations committed late are read again for this long, as the revocation time is taken when
+     * the row is inserted, not when it is committed.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int capacity;
+    private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+    private final AtomicReference<UuidBloomFilter> filter = new AtomicReference<>();
+    /**
+     * Guards adding to and rebuilding the filter, so that no revocation is lost in a rebuild.
+     */
+    private final Lock filterLock = new ReentrantLock();
+    private final Lock syncLock = new ReentrantLock();
+    private LocalDateTime syncedUntil;
+
+    public TokenRevocationService(final RevokedTokenRepository revokedTokenRepository, final JwtProperties properties) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.capacity = properties.getRevocationCapacity();
+        this.filter.set(new UuidBloomFilter(capacity, FALSE_POSITIVE_RATE));
+    }
+
+    /**
+     * Checks whether a token was revoked. Tokens without {@code jti} cannot be revoked.
+     */
+    public boolean isRevoked(final VerifiedToken token) {
+        final UUID tokenId = token.tokenId();
+        return tokenId != null && filter.get().mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Revokes a token on all instances, here immediately and elsewhere with the next sync.
+     */
+    public void revoke(final VerifiedToken token) {
+        if (token.tokenId() == null || token.expiresAt() == null) {
+            return;
+        }
+        revokedTokenRepository.revoke(token.tokenId(), LocalDateTime.ofInstant(token.expiresAt(), ZoneId.systemDefault()));
+        add(token.tokenId(), token.expiresAt());
+    }
+
+    /**
+     * Reads the revocations since the last sync, all unexpired ones on the first, and forgets the
+     * expired ones.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation-sync-interval:5s}")
+    public void sync() {
+        syncLock.lock();
+        try {
+            final List<RevokedToken> revokedTokens = syncedUntil == null
+                    ? revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now())
+                    : revokedTokenRepository.findByRevokedAtAfter(syncedUntil.minus(SYNC_OVERLAP));
+            revokedTokens.forEach(revokedToken -> add(revokedToken.getTokenId(),
+                    revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant()));
+            syncedUntil = revokedTokens.stream()
+                    .map(RevokedToken::getRevokedAt)
+                    .max(Comparator.naturalOrder())
+                    .orElse(syncedUntil == null ? LocalDateTime.now() : syncedUntil);
+        } finally {
+            syncLock.unlock();
+        }
+
+        final Instant now = Instant.now();
+        if (revoked.values().removeIf(expiresAt -> expiresAt.isBefore(now))) {
+            rebuildFilter();
+        }
+    }
+
+    @Scheduled(cron = "${jwt.revocation-cleanup-cron:0 10 * * * *}")
+    public void deleteExpired() {
+        final int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        log.debug("Deleted {} expired token revocations", deleted);
+    }
+
+    private void add(final UUID tokenId, final Instant expiresAt) {
+        filterLock.lock();
+        try {
+            if (revoked.put(tokenId, expiresAt) == null) {
+                filter.get().put(tokenId);
+            }
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    private void rebuildFilter() {
+        filterLock.lock();
+        try {
+            final UuidBloomFilter rebuilt = new UuidBloomFilter(capacity, FALSE_POSITIVE_RATE);
+            revoked.keySet().forEach(rebuilt::put);
+            filter.set(rebuilt);
+        } finally {
+            filterLock.unlock();
+        }
+    }
+}
@@ -8,9 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -20,7 +18,7 @@ import java.util.Optional;
 public class UserAuthenticationService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
     private final GlobalSettingsService globalSettingsService;
 
     /**
@@ -31,8 +29,8 @@ public class UserAuthenticationService {
      * @return Authenticated User object.
      * @throws BadCredentialsException if the email or password is incorrect.
      * @throws DisabledException if password authentication is disabled.
+     * @throws LoginCapacityExceededException if too many logins are being verified at once.
      */
-    @Transactional(readOnly = true)
     public User authenticateUser(final String email, final String password) {
         // Check if password authentication is enabled
         final GlobalSettingsResponseDTO settings = globalSettingsService.getCurrentSettings();
@@ -47,14 +45,31 @@ public class UserAuthenticationService {
             final User user = userOptional.get();
             log.debug("Stored hashed password: {}", user.getPassword());
             log.debug("Attempting to match raw password with stored hash");
-            final boolean matches = passwordEncoder.matches(password, user.getPassword());
+            final boolean matches = passwordVerifier.matches(password, user.getPassword());
             log.debug("Password matches for user {}: {}", email, matches);
             if (matches) {
                 log.debug("User authenticated successfully: {}", user.getUsername());
                 log.debug("User roles: {}", user.getRoles());
+                rehashIfOutdated(user, password);
                 return user;
             }
         }
         throw new BadCredentialsException("Invalid email or password");
     }
+
+    /**
+     * Replaces a hash of a lower cost than configured, while the raw password is at hand. Best
+     * effort: when the hashing pool is saturated the upgrade is skipped and retried on the next login.
+     */
+    private void rehashIfOutdated(final User user, final String password) {
+        if (passwordVerifier.needsRehash(user.getPassword())) {
+            try {
+                final String encoded = passwordVerifier.encode(password);
+                log.info("Rehashing password of user {} with the configured cost", user.getId());
+                userRepository.updatePassword(user.getId(), encoded);
+            } catch (final LoginCapacityExceededException e) {
+                log.warn("Skipped rehashing password of user {}: {}", user.getId(), e.getMessage());
+            }
+        }
+    }
 }
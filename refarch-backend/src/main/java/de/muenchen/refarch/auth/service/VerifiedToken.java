@@ -0,0 +1,26 @@
+package de.muenchen.refarch.auth.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * The outcome of a successful token verification: everything needed to authenticate the request, so
+ * the token does not have to be parsed again.
+ *
+ * @param subject id of the user the token was issued to
+ * @param authorities authorities granted by the token
+ * @param expiresAt expiration time of the token, or null if it never expires
+ * @param tokenId {@code jti} of the token, or null if it has none
+ */
+public record VerifiedToken(String subject, List<GrantedAuthority> authorities, Instant expiresAt, UUID tokenId) {
+
+    /**
+     * Creates a new VerifiedToken with an immutable copy of the authorities.
+     */
+    @SuppressWarnings("PMD.UnusedAssignment")
+    public VerifiedToken {
+        authorities = authorities == null ? List.of() : List.copyOf(authorities);
+    }
+}
@@ -0,0 +1,114 @@
+package de.muenchen.refarch.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import de.muenchen.refarch.configuration.CacheConfiguration;
+import de.muenchen.refarch.configuration.CaffeineCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers successfully verified tokens, so the RSA signature of a token is checked once instead
+ * of on every request. Entries are keyed by a SHA-256 hash of the token, expire together with the
+ * token and at the latest after {@code caffeine.caches.verified-tokens.expire-after-write}. Invalid
+ * tokens are never cached.
+ * <p>
+ * Hit rate and size are published as {@code cache_*} metrics with {@code cache=verified-tokens},
+ * the time spent verifying uncached tokens as {@code jwt_verify_seconds}.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final JwtService jwtService;
+    private final Cache<String, VerifiedToken> cache;
+    private final Timer verifyTimer;
+
+    public VerifiedTokenCache(final JwtService jwtService, final CaffeineCacheProperties properties,
+            final MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        final CaffeineCacheProperties.CacheSpec spec = properties.forCache(CacheConfiguration.VERIFIED_TOKENS);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfter(new TokenExpiry(spec.getExpireAfterWrite()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CacheConfiguration.VERIFIED_TOKENS);
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("Time spent parsing and verifying tokens that were not cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the verified token from the cache, or verifies and caches it.
+     *
+     * @param token serialized JWT
+     * @return subject and authorities of the token, or empty if the token is not valid
+     */
+    public Optional<VerifiedToken> verify(final String token) {
+        final String key = hash(token);
+        final VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final Timer.Sample sample = Timer.start();
+        final Optional<VerifiedToken> verified = jwtService.verify(token);
+        sample.stop(verifyTimer);
+        verified.ifPresent(value -> cache.put(key, value));
+        return verified;
+    }
+
+    /**
+     * Forgets all verified tokens, so tokens signed with a removed or replaced key are rejected.
+     */
+    @EventListener
+    public void onKeysChanged(final JwtKeysChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private static String hash(final String token) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM has to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Expires an entry when its token expires, but never later than the configured maximum.
+     */
+    private record TokenExpiry(Duration maximum) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(final String key, final VerifiedToken value, final long currentTime) {
+            if (value.expiresAt() == null) {
+                return maximum.toNanos();
+            }
+            final Duration remaining = Duration.between(Instant.now(), value.expiresAt());
+            return Math.max(0, Math.min(remaining.toNanos(), maximum.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final VerifiedToken value, final long currentTime,
+                final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final VerifiedToken value, final long currentTime,
+                final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
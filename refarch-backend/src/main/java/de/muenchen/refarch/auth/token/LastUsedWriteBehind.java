@@ -0,0 +1,74 @@
+package de.muenchen.refarch.auth.token;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * Collects the last use of refresh tokens in memory and writes them in one batched update, so
+ * refreshing an access token does not wait for the database.
+ * <p>
+ * Pending timestamps are flushed every {@code refresh-tokens.last-used-flush-interval} and on
+ * shutdown, so a crash loses at most one interval of them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LastUsedWriteBehind {
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * Records the use of a token, keeping the latest timestamp if it is used again before the next
+     * flush.
+     *
+     * @param tokenId the token
+     * @param lastUsed time of use
+     */
+    public void record(final UUID tokenId, final LocalDateTime lastUsed) {
+        pending.merge(tokenId, lastUsed, LastUsedWriteBehind::latest);
+    }
+
+    /**
+     * Writes all pending timestamps. If that fails, they are kept for the next flush unless a newer
+     * one was recorded in the meantime.
+     */
+    @Scheduled(fixedDelayString = "${refresh-tokens.last-used-flush-interval:10s}")
+    @PreDestroy
+    public void flush() {
+        final List<UUID> ids = new ArrayList<>(pending.size());
+        final List<LocalDateTime> timestamps = new ArrayList<>(pending.size());
+        for (final UUID id : pending.keySet()) {
+            final LocalDateTime lastUsed = pending.remove(id);
+            if (lastUsed != null) {
+                ids.add(id);
+                timestamps.add(lastUsed);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            refreshTokenRepository.updateLastUsed(ids.toArray(UUID[]::new), timestamps.toArray(LocalDateTime[]::new));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Could not write the last use of {} refresh tokens, retrying with the next flush", ids.size(), e);
+            for (int i = 0; i < ids.size(); i++) {
+                record(ids.get(i), timestamps.get(i));
+            }
+        }
+    }
+
+    private static LocalDateTime latest(final LocalDateTime a, final LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
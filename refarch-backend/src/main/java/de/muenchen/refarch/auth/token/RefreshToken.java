@@ -30,7 +30,8 @@ public class RefreshToken extends BaseEntity {
     @Getter(AccessLevel.NONE)
     private User user;
 
-    @Column(nullable = false, unique = true)
+    // unique in practice as a random UUID, the partitioned table cannot enforce it
+    @Column(nullable = false)
     private String token;
 
     @Column(nullable = false)
@@ -0,0 +1,63 @@
+package de.muenchen.refarch.auth.token;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes expired refresh tokens. The table is partitioned by month of expiry, so most tokens go
+ * with their partition once the month is over. Only tokens in the current month or the default
+ * partition are deleted row by row, in chunks with one transaction each to keep locks short.
+ * <p>
+ * The partitions and their functions are created by the Flyway migrations, so without Flyway, e.g.
+ * with a schema generated by Hibernate in tests, there is nothing to maintain.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.flyway.enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenExpiry {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenProperties properties;
+
+    /**
+     * Makes sure the partitions of the coming months exist, also after a long downtime.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createPartitions() {
+        final int created = refreshTokenRepository.createPartitions(properties.getPartitionsAhead());
+        if (created > 0) {
+            log.info("Created {} refresh token partitions", created);
+        }
+    }
+
+    @Scheduled(cron = "${refresh-tokens.expiry-cron:0 0 * * * *}")
+    public void removeExpiredTokens() {
+        final LocalDateTime now = LocalDateTime.now();
+        createPartitions();
+        final int droppedPartitions = refreshTokenRepository.dropPartitionsBefore(now);
+        final long deletedTokens = deleteExpiredTokens(now);
+        log.info("Dropped {} refresh token partitions and deleted {} expired tokens", droppedPartitions, deletedTokens);
+    }
+
+    private long deleteExpiredTokens(final LocalDateTime now) {
+        final int batchSize = properties.getDeleteBatchSize();
+        long deleted = 0;
+        List<UUID> ids;
+        do {
+            ids = refreshTokenRepository.findIdsByExpiresAtBefore(now, Limit.of(batchSize));
+            if (!ids.isEmpty()) {
+                deleted += refreshTokenRepository.deleteByIdInAndExpiresAtBefore(ids, now);
+            }
+        } while (ids.size() == batchSize);
+        return deleted;
+    }
+}
@@ -0,0 +1,28 @@
+package de.muenchen.refarch.auth.token;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Storage of refresh tokens, see {@link RefreshTokenExpiry}
+ */
+@ConfigurationProperties(prefix = "refresh-tokens")
+@Validated
+@Data
+public class RefreshTokenProperties {
+    /**
+     * Number of monthly partitions created in advance. Tokens expiring later land in the default
+     * partition and are deleted row by row.
+     */
+    @PositiveOrZero
+    private int partitionsAhead = 3;
+
+    /**
+     * Number of expired tokens deleted per transaction
+     */
+    @Positive
+    private int deleteBatchSize = 1000;
+}
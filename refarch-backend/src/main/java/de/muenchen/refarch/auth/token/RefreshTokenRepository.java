@@ -1,9 +1,15 @@
 package de.muenchen.refarch.auth.token;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,7 +20,58 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
 
     List<RefreshToken> findByUserIdAndIsValidTrueAndExpiresAtAfter(UUID userId, LocalDateTime now);
 
-    void deleteByUserIdAndIsValidTrue(UUID userId);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.user.id = :userId AND t.isValid = true")
+    int deleteByUserIdAndIsValidTrue(@Param("userId") UUID userId);
 
-    void deleteByExpiresAtBefore(LocalDateTime now);
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt < :now")
+    List<UUID> findIdsByExpiresAtBefore(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Deletes one chunk of expired tokens in its own transaction. The condition on expiresAt limits
+     * the statement to the partitions that can hold them.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.id IN :ids AND t.expiresAt < :now")
+    int deleteByIdInAndExpiresAtBefore(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Creates the monthly partitions of the current and the following months, see
+     * {@code V7__partition_refresh_tokens.sql}.
+     *
+     * @return number of created partitions
+     */
+    @Transactional
+    @Query(value = "SELECT create_refresh_token_partitions(:monthsAhead)", nativeQuery = true)
+    int createPartitions(@Param("monthsAhead") int monthsAhead);
+
+    /**
+     * Drops the monthly partitions whose tokens all expired before the given time.
+     *
+     * @return number of dropped partitions
+     */
+    @Transactional
+    @Query(value = "SELECT drop_refresh_token_partitions_before(:now)", nativeQuery = true)
+    int dropPartitionsBefore(@Param("now") LocalDateTime now);
+
+    /**
+     * Sets the last use of many tokens in one statement. Timestamps never move backwards, so an
+     * older value flushed late does not overwrite a newer one.
+     *
+     * @param ids token ids
+     * @param lastUsed last use of each token, in the same order as the ids
+     * @return number of updated tokens
+     */
+    @SuppressWarnings("PMD.UseVarargs") // parallel arrays, not a list of values
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                    UPDATE refresh_tokens t SET last_used = v.last_used
+                    FROM unnest(CAST(:ids AS uuid[]), CAST(:lastUsed AS timestamp[])) AS v(id, last_used)
+                    WHERE t.id = v.id AND t.last_used < v.last_used""",
+            nativeQuery = true
+    )
+    int updateLastUsed(@Param("ids") UUID[] ids, @Param("lastUsed") LocalDateTime[] lastUsed);
 }
@@ -4,7 +4,6 @@ import de.muenchen.refarch.globalsettings.GlobalSettingsService;
 import de.muenchen.refarch.globalsettings.dto.GlobalSettingsResponseDTO;
 import de.muenchen.refarch.user.User;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +17,7 @@ import java.util.UUID;
 public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final GlobalSettingsService globalSettingsService;
+    private final LastUsedWriteBehind lastUsedWriteBehind;
 
     @Transactional
     public RefreshToken createRefreshToken(final User user, final String ipAddress, final String userAgent) {
@@ -43,10 +43,13 @@ public class RefreshTokenService {
                 .filter(t -> t.getExpiresAt().isAfter(LocalDateTime.now()));
     }
 
-    @Transactional
+    /**
+     * Records the use of a token. The timestamp is written to the database in the background, see
+     * {@link LastUsedWriteBehind}.
+     */
     public void updateLastUsed(final RefreshToken token) {
         token.setLastUsed(LocalDateTime.now());
-        refreshTokenRepository.save(token);
+        lastUsedWriteBehind.record(token.getId(), token.getLastUsed());
     }
 
     @Transactional
@@ -67,10 +70,4 @@ public class RefreshTokenService {
         return refreshTokenRepository.findByUserIdAndIsValidTrueAndExpiresAtAfter(
                 userId, LocalDateTime.now());
     }
-
-    @Scheduled(cron = "0 0 * * * *") // Run every hour
-    @Transactional
-    public void cleanupExpiredTokens() {
-        refreshTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
-    }
 }
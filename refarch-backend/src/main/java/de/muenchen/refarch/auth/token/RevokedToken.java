@@ -0,0 +1,30 @@
+package de.muenchen.refarch.auth.token;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * An access token revoked before its expiry, identified by its {@code jti} claim.
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@NoArgsConstructor
+public class RevokedToken {
+
+    @Id
+    @Column(name = "jti")
+    private UUID tokenId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,38 @@
+package de.muenchen.refarch.auth.token;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    /**
+     * Revokes a token, revoking it again has no effect.
+     *
+     * @return 1 if the token was revoked, 0 if it already was
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "INSERT INTO revoked_tokens (jti, expires_at) VALUES (:tokenId, :expiresAt) ON CONFLICT DO NOTHING",
+            nativeQuery = true
+    )
+    int revoke(@Param("tokenId") UUID tokenId, @Param("expiresAt") LocalDateTime expiresAt);
+
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    List<RevokedToken> findByRevokedAtAfter(LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,6 +1,7 @@
 package de.muenchen.refarch.comment;
 
 import de.muenchen.refarch.common.EntityCopyUtils;
+import de.muenchen.refarch.common.UuidV7Generator;
 import de.muenchen.refarch.user.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -23,7 +24,7 @@ import java.util.UUID;
 public class Comment {
     @Id
     @GeneratedValue
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -64,4 +65,19 @@ public class Comment {
     public User getUser() {
         return EntityCopyUtils.copyUser(user);
     }
+
+    /**
+     * Returns the author id without copying the author.
+     */
+    public UUID getUserId() {
+        return user == null ? null : user.getId();
+    }
+
+    /**
+     * Returns the author itself for read-only mapping inside this package, avoiding the copy made by
+     * {@link #getUser()}.
+     */
+    /* default */ User getAuthor() {
+        return user;
+    }
 }
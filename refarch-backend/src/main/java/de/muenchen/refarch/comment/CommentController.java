@@ -2,11 +2,14 @@ package de.muenchen.refarch.comment;
 
 import de.muenchen.refarch.comment.dto.CommentRequestDTO;
 import de.muenchen.refarch.comment.dto.CommentResponseDTO;
+import de.muenchen.refarch.comment.dto.CommentThreadResponseDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -27,6 +30,32 @@ public class CommentController {
         return ResponseEntity.ok(commentService.findByPageId(pageId));
     }
 
+    @GetMapping("/post/{postId}/paged")
+    public ResponseEntity<CommentThreadResponseDTO> getCommentsByPostPaged(
+            @PathVariable final UUID postId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size) {
+        return ResponseEntity.ok(commentService.findThreadByPostId(postId, cursor, size));
+    }
+
+    @GetMapping("/page/{pageId}/paged")
+    public ResponseEntity<CommentThreadResponseDTO> getCommentsByPagePaged(
+            @PathVariable final UUID pageId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size) {
+        return ResponseEntity.ok(commentService.findThreadByPageId(pageId, cursor, size));
+    }
+
+    @GetMapping(path = "/post/{postId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCommentsByPost(@PathVariable final UUID postId) {
+        return commentService.subscribe(postId);
+    }
+
+    @GetMapping(path = "/page/{pageId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCommentsByPage(@PathVariable final UUID pageId) {
+        return commentService.subscribe(pageId);
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<CommentResponseDTO>> getCommentsByUser(@PathVariable final UUID userId) {
         return ResponseEntity.ok(commentService.findByUserId(userId));
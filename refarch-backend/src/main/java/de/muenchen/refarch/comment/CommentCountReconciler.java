@@ -0,0 +1,31 @@
+package de.muenchen.refarch.comment;
+
+import de.muenchen.refarch.page.PageRepository;
+import de.muenchen.refarch.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Corrects the comment counts of posts and pages that drifted from the actual number of comments,
+ * e.g. through comments deleted directly in the database. Only rows with a wrong count are updated.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentCountReconciler {
+    private final PostRepository postRepository;
+    private final PageRepository pageRepository;
+
+    @Scheduled(cron = "${comments.count-reconciliation-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        final int posts = postRepository.reconcileCommentCounts();
+        final int pages = pageRepository.reconcileCommentCounts();
+        if (posts > 0 || pages > 0) {
+            log.warn("Corrected comment counts of {} posts and {} pages", posts, pages);
+        }
+    }
+}
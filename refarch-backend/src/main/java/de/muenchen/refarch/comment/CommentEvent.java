@@ -0,0 +1,35 @@
+package de.muenchen.refarch.comment;
+
+import de.muenchen.refarch.comment.dto.CommentResponseDTO;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Published by {@link CommentService} for every change of a comment, and delivered to the live
+ * comment streams by {@link CommentStreamHub} once the change is committed.
+ *
+ * @param type kind of change
+ * @param comment the comment after the change, or before it was deleted
+ */
+public record CommentEvent(Type type, CommentResponseDTO comment) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * Returns the id of the post or page the comment belongs to.
+     */
+    public UUID topic() {
+        return comment.postId() == null ? comment.pageId() : comment.postId();
+    }
+
+    /**
+     * Returns the name of the server-sent event, e.g. {@code comment-created}.
+     */
+    public String eventName() {
+        return "comment-" + type.name().toLowerCase(Locale.ROOT);
+    }
+}
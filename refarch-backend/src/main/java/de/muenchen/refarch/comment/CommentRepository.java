@@ -1,13 +1,30 @@
 package de.muenchen.refarch.comment;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
+    /**
+     * Comments with their author, restricted to those following the keyset position
+     * {@code (:afterCreatedAt, :afterId)}, which is ignored for the first slice.
+     */
+    String THREAD_QUERY = """
+            SELECT new de.muenchen.refarch.comment.CommentView(
+                c.id, c.content, c.postId, c.pageId, c.createdAt, c.updatedAt,
+                u.id, u.username, u.firstName, u.lastName, u.title, u.affiliation, u.thumbnail, u.createdAt, u.updatedAt)
+            FROM Comment c JOIN c.user u
+            WHERE (:afterCreatedAt IS NULL OR c.createdAt < :afterCreatedAt
+                OR (c.createdAt = :afterCreatedAt AND c.id < :afterId))
+            """;
+
     List<Comment> findByPostId(UUID postId);
 
     List<Comment> findByPageId(UUID pageId);
@@ -21,4 +38,24 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     void deleteByPostIdAndUserId(UUID postId, UUID userId);
 
     void deleteByPageIdAndUserId(UUID pageId, UUID userId);
+
+    /**
+     * Returns the comments of a post following the given keyset position, newest first.
+     */
+    @Query(THREAD_QUERY + "AND c.postId = :postId ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentView> findThreadByPostId(
+            @Param("postId") UUID postId,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Limit limit);
+
+    /**
+     * Returns the comments of a page following the given keyset position, newest first.
+     */
+    @Query(THREAD_QUERY + "AND c.pageId = :pageId ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentView> findThreadByPageId(
+            @Param("pageId") UUID pageId,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Limit limit);
 }
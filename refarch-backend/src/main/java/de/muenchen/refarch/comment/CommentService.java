@@ -1,24 +1,39 @@
 package de.muenchen.refarch.comment;
 
 import de.muenchen.refarch.comment.dto.CommentResponseDTO;
+import de.muenchen.refarch.comment.dto.CommentThreadResponseDTO;
+import de.muenchen.refarch.common.CursorPage;
+import de.muenchen.refarch.common.KeysetCursor;
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
+import de.muenchen.refarch.page.PageRepository;
+import de.muenchen.refarch.post.PostRepository;
 import de.muenchen.refarch.security.Authorities;
 import de.muenchen.refarch.user.User;
 import de.muenchen.refarch.user.UserRepository;
 import de.muenchen.refarch.user.dto.UserResponseDTO;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@SuppressWarnings("PMD.CouplingBetweenObjects")
 public class CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final PageRepository pageRepository;
+    private final GlobalSettingsService globalSettingsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentStreamHub commentStreamHub;
 
     @PreAuthorize(Authorities.COMMENT_READ)
     @Transactional(readOnly = true)
@@ -38,6 +53,48 @@ public class CommentService {
                 .toList();
     }
 
+    /**
+     * Returns one slice of the comments of a post, newest first, using keyset pagination on
+     * {@code (createdAt, id)}. The authors are read in the same query.
+     *
+     * @param postId the post
+     * @param cursor token of the previous slice, or null for the first slice
+     * @param size requested slice size, capped at {@code GlobalSettings.maxItemsPerPage}
+     * @return the slice, the cursor of the following one and the comment count of the post
+     */
+    @PreAuthorize(Authorities.COMMENT_READ)
+    @Transactional(readOnly = true)
+    public CommentThreadResponseDTO findThreadByPostId(final UUID postId, final String cursor, final Integer size) {
+        final KeysetCursor after = KeysetCursor.decode(cursor);
+        final int pageSize = effectiveSize(size);
+        final List<CommentView> comments = commentRepository.findThreadByPostId(postId,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                Limit.of(pageSize + 1));
+        return thread(comments, pageSize, postRepository.findCommentCountById(postId).orElse(0L));
+    }
+
+    /**
+     * Returns one slice of the comments of a page, newest first, see
+     * {@link #findThreadByPostId(UUID, String, Integer)}.
+     *
+     * @param pageId the page
+     * @param cursor token of the previous slice, or null for the first slice
+     * @param size requested slice size, capped at {@code GlobalSettings.maxItemsPerPage}
+     * @return the slice, the cursor of the following one and the comment count of the page
+     */
+    @PreAuthorize(Authorities.COMMENT_READ)
+    @Transactional(readOnly = true)
+    public CommentThreadResponseDTO findThreadByPageId(final UUID pageId, final String cursor, final Integer size) {
+        final KeysetCursor after = KeysetCursor.decode(cursor);
+        final int pageSize = effectiveSize(size);
+        final List<CommentView> comments = commentRepository.findThreadByPageId(pageId,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                Limit.of(pageSize + 1));
+        return thread(comments, pageSize, pageRepository.findCommentCountById(pageId).orElse(0L));
+    }
+
     @PreAuthorize(Authorities.COMMENT_READ)
     @Transactional(readOnly = true)
     public List<CommentResponseDTO> findByUserId(final UUID userId) {
@@ -58,7 +115,9 @@ public class CommentService {
         comment.setPostId(postId);
         comment.setUser(user);
 
-        return mapToResponseDTO(commentRepository.save(comment));
+        final Comment saved = commentRepository.save(comment);
+        postRepository.addToCommentCount(postId, 1);
+        return publish(CommentEvent.Type.CREATED, mapToResponseDTO(saved));
     }
 
     @PreAuthorize(Authorities.COMMENT_WRITE)
@@ -72,7 +131,9 @@ public class CommentService {
         comment.setPageId(pageId);
         comment.setUser(user);
 
-        return mapToResponseDTO(commentRepository.save(comment));
+        final Comment saved = commentRepository.save(comment);
+        pageRepository.addToCommentCount(pageId, 1);
+        return publish(CommentEvent.Type.CREATED, mapToResponseDTO(saved));
     }
 
     @PreAuthorize("hasRole('ROLE_ADMIN') or @userSecurity.isCurrentUser(#userId)")
@@ -81,13 +142,13 @@ public class CommentService {
         final Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("Comment not found with id: " + commentId));
 
-        if (!comment.getUser().getId().equals(userId)) {
+        if (!comment.getUserId().equals(userId)) {
             throw new IllegalArgumentException("User is not authorized to update this comment");
         }
 
         comment.setContent(content);
 
-        return mapToResponseDTO(commentRepository.save(comment));
+        return publish(CommentEvent.Type.UPDATED, mapToResponseDTO(commentRepository.save(comment)));
     }
 
     @PreAuthorize("hasRole('ROLE_ADMIN') or @userSecurity.isCurrentUser(#userId)")
@@ -96,15 +157,51 @@ public class CommentService {
         final Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("Comment not found with id: " + commentId));
 
-        if (!comment.getUser().getId().equals(userId)) {
+        if (!comment.getUserId().equals(userId)) {
             throw new IllegalArgumentException("User is not authorized to delete this comment");
         }
 
+        final CommentResponseDTO deleted = mapToResponseDTO(comment);
         commentRepository.delete(comment);
+        if (comment.getPostId() != null) {
+            postRepository.addToCommentCount(comment.getPostId(), -1);
+        } else {
+            pageRepository.addToCommentCount(comment.getPageId(), -1);
+        }
+        publish(CommentEvent.Type.DELETED, deleted);
+    }
+
+    /**
+     * Opens a live stream of the comment changes of a post or page, see {@link CommentStreamHub}.
+     *
+     * @param topicId the post or page
+     * @return the stream
+     */
+    @PreAuthorize(Authorities.COMMENT_READ)
+    public SseEmitter subscribe(final UUID topicId) {
+        return commentStreamHub.subscribe(topicId);
+    }
+
+    private CommentResponseDTO publish(final CommentEvent.Type type, final CommentResponseDTO comment) {
+        eventPublisher.publishEvent(new CommentEvent(type, comment));
+        return comment;
+    }
+
+    private int effectiveSize(final Integer size) {
+        return CursorPage.effectiveSize(size, globalSettingsService.getCurrentSettings().maxItemsPerPage());
+    }
+
+    private static CommentThreadResponseDTO thread(final List<CommentView> comments, final int size, final long totalCount) {
+        final CursorPage<CommentView> slice = CursorPage.slice(comments, size,
+                comment -> new KeysetCursor(comment.createdAt(), comment.id()));
+        return new CommentThreadResponseDTO(
+                slice.items().stream().map(CommentView::toResponseDTO).toList(),
+                slice.nextCursor(),
+                totalCount);
     }
 
     private CommentResponseDTO mapToResponseDTO(final Comment comment) {
-        final User user = comment.getUser();
+        final User user = comment.getAuthor();
         final UserResponseDTO userResponseDTO = new UserResponseDTO(
                 user.getId(),
                 user.getUsername(),
@@ -0,0 +1,155 @@
+package de.muenchen.refarch.comment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans committed {@link CommentEvent}s out to the server-sent event streams of the affected post or
+ * page, without touching the database.
+ * <p>
+ * Every subscriber has a bounded buffer that is drained on its own virtual thread, so a slow client
+ * never blocks the publishing transaction or other clients. If the buffer is full, the oldest event
+ * is dropped. Only subscribers connected to this instance receive the events of this instance.
+ */
+@Component
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class CommentStreamHub implements DisposableBean {
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger openStreamCount = new AtomicInteger();
+    private final CommentStreamProperties properties;
+    private final Counter droppedEvents;
+
+    public CommentStreamHub(final CommentStreamProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("comments.stream.open", openStreamCount, AtomicInteger::get)
+                .description("Open live comment streams")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("comments.stream.dropped")
+                .description("Comment events dropped because a subscriber fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of the comment events of a post or page.
+     *
+     * @param topic id of the post or page
+     * @return the stream, to be returned from the controller
+     */
+    public SseEmitter subscribe(final UUID topic) {
+        final SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        subscribe(topic, emitter);
+        return emitter;
+    }
+
+    /* default */ void subscribe(final UUID topic, final SseEmitter emitter) {
+        final Subscriber subscriber = new Subscriber(topic, emitter, properties.getBufferSize());
+        // added inside compute, so that a concurrent remove of the last subscriber cannot drop the set in between
+        subscribers.compute(topic, (key, topicSubscribers) -> {
+            final Set<Subscriber> current = topicSubscribers == null ? ConcurrentHashMap.newKeySet() : topicSubscribers;
+            current.add(subscriber);
+            return current;
+        });
+        openStreamCount.incrementAndGet();
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+    }
+
+    /**
+     * Delivers an event once the change is committed, or right away if it was published outside of a
+     * transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentEvent(final CommentEvent event) {
+        final Set<Subscriber> topicSubscribers = subscribers.get(event.topic());
+        if (topicSubscribers != null) {
+            topicSubscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    private void remove(final Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.topic, (topic, topicSubscribers) -> {
+            if (topicSubscribers.remove(subscriber)) {
+                openStreamCount.decrementAndGet();
+            }
+            return topicSubscribers.isEmpty() ? null : topicSubscribers;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.values().forEach(topicSubscribers -> topicSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        executor.shutdown();
+    }
+
+    private final class Subscriber {
+        private final UUID topic;
+        private final SseEmitter emitter;
+        private final BlockingQueue<CommentEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(final UUID topic, final SseEmitter emitter, final int bufferSize) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(final CommentEvent event) {
+            while (!buffer.offer(event)) {
+                if (buffer.poll() != null) {
+                    droppedEvents.increment();
+                }
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                for (CommentEvent event = buffer.poll(); event != null; event = buffer.poll()) {
+                    emitter.send(SseEmitter.event()
+                            .id(event.comment().id().toString())
+                            .name(event.eventName())
+                            .data(event.comment(), MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // the client is gone, draining stays set so that nothing is scheduled any more
+                log.debug("Closing comment stream of {}: {}", topic, e.getMessage());
+                buffer.clear();
+                remove(this);
+                emitter.completeWithError(e);
+                return;
+            }
+            draining.set(false);
+            if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package de.muenchen.refarch.comment;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the live comment streams, see {@link CommentStreamHub}
+ */
+@ConfigurationProperties(prefix = "comments.stream")
+@Validated
+@Data
+public class CommentStreamProperties {
+    /**
+     * Number of events buffered per subscriber. If a client falls further behind, its oldest events
+     * are dropped.
+     */
+    @Positive
+    private int bufferSize = 64;
+
+    /**
+     * Time after which a stream is closed, clients reconnect automatically
+     */
+    @NotNull
+    private Duration timeout = Duration.ofMinutes(30);
+}
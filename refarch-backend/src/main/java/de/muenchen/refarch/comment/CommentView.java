@@ -0,0 +1,36 @@
+package de.muenchen.refarch.comment;
+
+import de.muenchen.refarch.comment.dto.CommentResponseDTO;
+import de.muenchen.refarch.user.dto.UserResponseDTO;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat projection of a comment and its author, read in one query without loading the {@code User}
+ * entity and its roles.
+ */
+@SuppressWarnings("PMD.ExcessiveParameterList")
+public record CommentView(
+        UUID id,
+        String content,
+        UUID postId,
+        UUID pageId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID userId,
+        String username,
+        String firstName,
+        String lastName,
+        String title,
+        String affiliation,
+        String thumbnail,
+        LocalDateTime userCreatedAt,
+        LocalDateTime userUpdatedAt) {
+
+    public CommentResponseDTO toResponseDTO() {
+        return new CommentResponseDTO(id, content, postId, pageId,
+                new UserResponseDTO(userId, username, firstName, lastName, title, affiliation, thumbnail,
+                        userCreatedAt, userUpdatedAt),
+                createdAt, updatedAt);
+    }
+}
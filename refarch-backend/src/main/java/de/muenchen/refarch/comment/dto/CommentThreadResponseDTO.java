@@ -0,0 +1,18 @@
+package de.muenchen.refarch.comment.dto;
+
+import java.util.List;
+
+/**
+ * One slice of the comments of a post or page, newest first.
+ *
+ * @param items the comments of this slice
+ * @param nextCursor token for fetching the following slice, or null if this is the last one
+ * @param totalCount number of comments of the post or page
+ */
+public record CommentThreadResponseDTO(List<CommentResponseDTO> items, String nextCursor, long totalCount) {
+
+    @SuppressWarnings("PMD.UnusedAssignment")
+    public CommentThreadResponseDTO {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+}
@@ -0,0 +1,27 @@
+package de.muenchen.refarch.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/** Exception if request data is malformed. */
+@SuppressWarnings("PMD.MissingSerialVersionUID")
+public class BadRequestException extends ResponseStatusException {
+    /**
+     * BadRequestException constructor
+     *
+     * @param message Exception message
+     */
+    public BadRequestException(final String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+
+    /**
+     * BadRequestException constructor
+     *
+     * @param message Exception message
+     * @param cause Exception cause
+     */
+    public BadRequestException(final String message, final Throwable cause) {
+        super(HttpStatus.BAD_REQUEST, message, cause);
+    }
+}
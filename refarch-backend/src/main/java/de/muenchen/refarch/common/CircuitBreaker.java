@@ -0,0 +1,74 @@
+package de.muenchen.refarch.common;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe circuit breaker: opens after a number of consecutive failures, so calls to a
+ * struggling dependency fail fast instead of waiting for it. Once the open duration has passed, a
+ * single trial call is let through, which closes the breaker on success and opens it again on
+ * failure.
+ */
+public final class CircuitBreaker {
+
+    /**
+     * State of the breaker, the ordinal is exported as metric
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    /**
+     * @param failureThreshold consecutive failures opening the breaker
+     * @param openDuration time calls are rejected before a trial call
+     * @param nanoClock source of {@link System#nanoTime()}, replaceable in tests
+     */
+    public CircuitBreaker(final int failureThreshold, final Duration openDuration, final LongSupplier nanoClock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("Failure threshold must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Checks whether a call may be made. Every permitted call must be reported with
+     * {@link #onSuccess()} or {@link #onFailure()}.
+     */
+    public boolean tryAcquirePermission() {
+        return switch (state.get()) {
+        case CLOSED -> true;
+        case OPEN -> nanoClock.getAsLong() - openedAt.get() >= openNanos && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        case HALF_OPEN -> false;
+        };
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(nanoClock.getAsLong());
+            state.set(State.OPEN);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+}
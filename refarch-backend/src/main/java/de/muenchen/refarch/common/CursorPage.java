@@ -0,0 +1,56 @@
+package de.muenchen.refarch.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One slice of a keyset-paginated listing.
+ *
+ * @param items the elements of this slice
+ * @param nextCursor token for fetching the following slice, or null if this is the last one
+ * @param <T> element type
+ */
+public record CursorPage<T> (List<T> items, String nextCursor) {
+
+    /**
+     * Upper bound used when no {@code maxItemsPerPage} has been configured yet.
+     */
+    public static final int DEFAULT_MAX_SIZE = 100;
+
+    @SuppressWarnings("PMD.UnusedAssignment")
+    public CursorPage {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    /**
+     * Resolves the number of elements to return for one slice.
+     *
+     * @param requested the size requested by the client, may be null
+     * @param maxSize the upper bound, usually {@code GlobalSettings.maxItemsPerPage}; falls back to
+     *            {@link #DEFAULT_MAX_SIZE} if null
+     * @return the requested size capped at {@code maxSize}, or {@code maxSize} if nothing valid was
+     *         requested
+     */
+    public static int effectiveSize(final Integer requested, final Integer maxSize) {
+        final int max = maxSize == null || maxSize <= 0 ? DEFAULT_MAX_SIZE : maxSize;
+        return requested == null || requested <= 0 ? max : Math.min(requested, max);
+    }
+
+    /**
+     * Builds a slice from a query result that was fetched with one element more than {@code size}.
+     * The extra element only signals that a following slice exists and is not returned.
+     *
+     * @param fetched query result with at most {@code size + 1} elements
+     * @param size the slice size
+     * @param cursorOf extracts the keyset position of an element
+     * @param <T> element type
+     * @return the slice
+     */
+    public static <T> CursorPage<T> slice(final List<T> fetched, final int size, final Function<T, KeysetCursor> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        final List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(items, cursorOf.apply(items.getLast()).encode());
+    }
+}
@@ -0,0 +1,55 @@
+package de.muenchen.refarch.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last element of a keyset-paginated listing ordered by {@code (created_at, id)}.
+ * The cursor is handed to clients as an opaque, URL-safe token.
+ *
+ * @param createdAt creation timestamp of the last element
+ * @param id id of the last element, used as tie-breaker for equal timestamps
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR = "Invalid cursor: ";
+
+    /**
+     * Encodes this cursor into an opaque token.
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        final String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token created by {@link #encode()}.
+     *
+     * @param token the token, may be blank
+     * @return the cursor, or null if the token is null or blank
+     * @throws BadRequestException if the token is malformed
+     */
+    public static KeysetCursor decode(final String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException(INVALID_CURSOR + token);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(INVALID_CURSOR + token, e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package de.muenchen.refarch.common;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over UUIDs: answers "definitely not contained" without false negatives,
+ * and "maybe contained" with the configured false positive rate up to the expected number of
+ * elements. Elements cannot be removed, build a new filter instead.
+ */
+public final class UuidBloomFilter {
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedElements number of elements the false positive rate is guaranteed for
+     * @param falsePositiveRate rate of "maybe contained" answers for elements never added, between 0
+     *            and 1
+     */
+    public UuidBloomFilter(final int expectedElements, final double falsePositiveRate) {
+        if (expectedElements <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected elements must be positive and the false positive rate between 0 and 1");
+        }
+        final double ln2 = Math.log(2);
+        final long bits = (long) Math.ceil(-expectedElements * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.words = new AtomicLongArray((int) ((bits + BITS_PER_WORD - 1) / BITS_PER_WORD));
+        this.bitCount = (long) words.length() * BITS_PER_WORD;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedElements * ln2));
+    }
+
+    public void put(final UUID element) {
+        final long hash1 = mix(element.getMostSignificantBits() ^ element.getLeastSignificantBits());
+        final long hash2 = mix(element.getLeastSignificantBits() + GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            final int word = (int) (bit / BITS_PER_WORD);
+            final long mask = 1L << (bit % BITS_PER_WORD);
+            words.getAndUpdate(word, value -> value | mask);
+        }
+    }
+
+    public boolean mightContain(final UUID element) {
+        final long hash1 = mix(element.getMostSignificantBits() ^ element.getLeastSignificantBits());
+        final long hash2 = mix(element.getLeastSignificantBits() + GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit / BITS_PER_WORD)) & 1L << (bit % BITS_PER_WORD)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finalizer of SplitMix64, spreads structured input such as timestamps in version 7 UUIDs over all
+     * bits.
+     */
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ z >>> 30) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ z >>> 27) * 0x94D0_49BB_1331_11EBL;
+        return z ^ z >>> 31;
+    }
+}
@@ -0,0 +1,80 @@
+package de.muenchen.refarch.common;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+/**
+ * Generates time-ordered version 7 UUIDs as specified in RFC 9562, used as primary keys with
+ * {@code @UuidGenerator(algorithm = UuidV7Generator.class)}.
+ * <p>
+ * The 48 most significant bits hold the Unix timestamp in milliseconds, so new keys are appended to
+ * the right edge of the primary key index instead of being scattered across it. The 12 bits after
+ * the version are a counter that keeps keys of the same millisecond monotonic (RFC 9562, section
+ * 6.2, method 1); the remaining 62 bits are random. Existing random (version 4) keys stay valid, as
+ * both share the same {@code UUID} column type.
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private static final int TIMESTAMP_SHIFT = 16;
+
+    private static final int VERSION = 7;
+
+    private static final long VERSION_7 = 0x7000L;
+
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Timestamp and counter of the last generated UUID, {@code timestamp << COUNTER_BITS | counter}.
+     */
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    @Override
+    public UUID generateUuid(final SharedSessionContractImplementor session) {
+        return generate();
+    }
+
+    /**
+     * Generates a new version 7 UUID. UUIDs generated by this JVM are strictly increasing, even if the
+     * clock goes backwards or more than 4096 UUIDs are generated within one millisecond: the timestamp
+     * then runs ahead of the clock until it catches up.
+     *
+     * @return the UUID
+     */
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    /* default */ static UUID generate(final long currentTimeMillis) {
+        final long timestampAndCounter = LAST_TIMESTAMP_AND_COUNTER
+                .updateAndGet(last -> Math.max(currentTimeMillis << COUNTER_BITS, last + 1));
+        final long timestamp = timestampAndCounter >>> COUNTER_BITS;
+        final long mostSignificantBits = timestamp << TIMESTAMP_SHIFT | VERSION_7 | timestampAndCounter & COUNTER_MASK;
+        final long leastSignificantBits = RANDOM.nextLong() & VARIANT_MASK | VARIANT_RFC_9562;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Returns the creation time of a version 7 UUID.
+     *
+     * @param uuid version 7 UUID
+     * @return Unix timestamp in milliseconds
+     * @throws IllegalArgumentException if the UUID is not version 7
+     */
+    public static long timestamp(final UUID uuid) {
+        if (uuid.version() != VERSION) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> TIMESTAMP_SHIFT;
+    }
+}
@@ -0,0 +1,44 @@
+package de.muenchen.refarch.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches for reference data that is read on nearly every request but hardly ever changes. Each
+ * cache is sized by {@link CaffeineCacheProperties} and records statistics, which Spring Boot
+ * publishes as {@code cache_*} metrics on the Prometheus endpoint. Entries are evicted by the
+ * update and delete methods of the owning services.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    public static final String LANGUAGES = "languages";
+    public static final String LINKS = "links";
+    public static final String ROLES = "roles";
+    /**
+     * Verified JWTs, built by {@code VerifiedTokenCache} itself because entries expire with their token
+     */
+    public static final String VERIFIED_TOKENS = "verified-tokens";
+
+    private static final List<String> CACHE_NAMES = List.of(LANGUAGES, LINKS, ROLES);
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> caffeineCacheManagerCustomizer(final CaffeineCacheProperties properties) {
+        return cacheManager -> {
+            for (final String name : CACHE_NAMES) {
+                final CaffeineCacheProperties.CacheSpec spec = properties.forCache(name);
+                cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                        .maximumSize(spec.getMaximumSize())
+                        .expireAfterWrite(spec.getExpireAfterWrite())
+                        .recordStats()
+                        .build());
+            }
+        };
+    }
+}
@@ -5,26 +5,29 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
  * The class adds a {@link HttpHeaders#CACHE_CONTROL} header to each http response, if
- * the header is not already set.
+ * the header is not already set. The value depends on the request path, see
+ * {@link CacheControlProperties}.
  */
 @Configuration
 public class CacheControlConfiguration {
 
-    private static final String CACHE_CONTROL_HEADER_VALUES = "no-cache, no-store, must-revalidate";
-
     @Bean
-    public FilterRegistrationBean<CacheControlFilter> cacheControlFilter() {
+    public FilterRegistrationBean<CacheControlFilter> cacheControlFilter(final CacheControlProperties properties) {
         final FilterRegistrationBean<CacheControlFilter> registration = new FilterRegistrationBean<>();
-        registration.setFilter(new CacheControlFilter());
+        registration.setFilter(new CacheControlFilter(properties));
         registration.addUrlPatterns("/*");
         return registration;
     }
@@ -36,6 +39,17 @@ public class CacheControlConfiguration {
      */
     public static class CacheControlFilter extends OncePerRequestFilter {
 
+        private final PathMatcher pathMatcher = new AntPathMatcher();
+        private final String defaultPolicy;
+        private final Map<String, String> policies;
+
+        public CacheControlFilter(final CacheControlProperties properties) {
+            super();
+            this.defaultPolicy = properties.getDefaultPolicy();
+            // keeps the order, the first matching policy applies
+            this.policies = new LinkedHashMap<>(properties.getPolicies());
+        }
+
         /**
          * The method which adds the {@link HttpHeaders#CACHE_CONTROL} header
          * to the {@link HttpServletResponse} given in the parameter,
@@ -55,13 +69,22 @@ public class CacheControlConfiguration {
 
             final String cacheControlHeaderValue = response.getHeader(HttpHeaders.CACHE_CONTROL);
             if (StringUtils.isBlank(cacheControlHeaderValue)) {
-                response.addHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_HEADER_VALUES);
+                response.addHeader(HttpHeaders.CACHE_CONTROL, policyOf(request));
             }
 
             filterChain.doFilter(request, response);
 
         }
 
+        private String policyOf(final HttpServletRequest request) {
+            final String path = request.getRequestURI().substring(request.getContextPath().length());
+            return policies.entrySet().stream()
+                    .filter(policy -> pathMatcher.match(policy.getKey(), path))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(defaultPolicy);
+        }
+
     }
 
 }
@@ -0,0 +1,37 @@
+package de.muenchen.refarch.configuration;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import edu.umd.cs.findbugs.annotations.SuppressMatchType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * {@code Cache-Control} policies of the responses, see also {@link CacheControlConfiguration}
+ */
+@ConfigurationProperties(prefix = "cache-control")
+@Validated
+@Data
+public class CacheControlProperties {
+    /**
+     * Policy of all responses without an own entry in {@link #policies}. Private and admin data must
+     * not be stored by browsers or shared caches.
+     */
+    @NotBlank
+    private String defaultPolicy = "no-cache, no-store, must-revalidate";
+
+    /**
+     * Policies keyed by Ant path pattern of the request, the first matching one applies
+     */
+    @NotNull
+    private Map<String, String> policies = new LinkedHashMap<>(Map.of("/published/**", "public, no-cache"));
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", matchType = SuppressMatchType.EXACT)
+    public Map<String, String> getPolicies() {
+        return policies;
+    }
+}
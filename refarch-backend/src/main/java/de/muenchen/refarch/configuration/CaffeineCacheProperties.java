@@ -0,0 +1,67 @@
+package de.muenchen.refarch.configuration;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import edu.umd.cs.findbugs.annotations.SuppressMatchType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Size and expiry of the application caches, see also {@link CacheConfiguration}
+ */
+@ConfigurationProperties(prefix = "caffeine")
+@Validated
+@Data
+public class CaffeineCacheProperties {
+    /**
+     * Settings for every cache without an own entry in {@link #caches}
+     */
+    @Valid
+    @NotNull
+    private CacheSpec defaults = new CacheSpec();
+
+    /**
+     * Settings per cache, keyed by cache name
+     */
+    @Valid
+    @NotNull
+    private Map<String, CacheSpec> caches = new HashMap<>();
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", matchType = SuppressMatchType.EXACT)
+    public CacheSpec getDefaults() {
+        return defaults;
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", matchType = SuppressMatchType.EXACT)
+    public Map<String, CacheSpec> getCaches() {
+        return caches;
+    }
+
+    public CacheSpec forCache(final String name) {
+        return caches.getOrDefault(name, defaults);
+    }
+
+    /**
+     * Size and expiry of a single cache
+     */
+    @Data
+    public static class CacheSpec {
+        /**
+         * Maximum number of entries before the least recently used ones are evicted
+         */
+        @Positive
+        private long maximumSize = 1000;
+
+        /**
+         * Time after which an entry is reloaded, as a safety net for changes not made through the services
+         */
+        @NotNull
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+}
@@ -16,6 +16,7 @@ import de.muenchen.refarch.post.PostRepository;
 import de.muenchen.refarch.post.content.PostContent;
 import de.muenchen.refarch.role.Role;
 import de.muenchen.refarch.role.RoleRepository;
+import de.muenchen.refarch.role.RoleService;
 import de.muenchen.refarch.user.User;
 import de.muenchen.refarch.user.UserRepository;
 import de.muenchen.refarch.user.bio.UserBio;
@@ -47,6 +48,7 @@ public class DataInitializer implements CommandLineRunner {
     private final LanguageRepository languageRepository;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
+    private final RoleService roleService;
     private final PasswordEncoder passwordEncoder;
     private final HomepageRepository homepageRepository;
     private final LinkRepository linkRepository;
@@ -68,10 +70,8 @@ public class DataInitializer implements CommandLineRunner {
         }
 
         // Get required roles for admin user
-        final Role adminRole = roleRepository.findByName("ROLE_ADMIN")
-                .orElseThrow(() -> new IllegalStateException("ROLE_ADMIN not found after initialization"));
-        final Role userRole = roleRepository.findByName("ROLE_USER")
-                .orElseThrow(() -> new IllegalStateException("ROLE_USER not found after initialization"));
+        final Role adminRole = roleService.getReference(roleService.getRoleByName("ROLE_ADMIN"));
+        final Role userRole = roleService.getReference(roleService.getRoleByName("ROLE_USER"));
 
         // Initialize admin user if needed
         if (userRepository.count() == 0) {
@@ -0,0 +1,23 @@
+package de.muenchen.refarch.configuration;
+
+import de.muenchen.refarch.edgecache.CachePurger;
+import de.muenchen.refarch.edgecache.HttpCachePurger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Purges stale responses from the caching proxy in front of the backend, if one is configured.
+ */
+@Configuration
+@Slf4j
+public class EdgeCacheConfiguration {
+
+    @Bean
+    public CachePurger cachePurger(final EdgeCacheProperties properties) {
+        if (properties.getPurgeUri() == null) {
+            return keys -> log.trace("No caching proxy configured, not purging {}", keys);
+        }
+        return new HttpCachePurger(properties);
+    }
+}
@@ -0,0 +1,35 @@
+package de.muenchen.refarch.configuration;
+
+import de.muenchen.refarch.edgecache.SurrogateKeys;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.net.URI;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the caching proxy in front of the backend, see {@link EdgeCacheConfiguration}
+ */
+@ConfigurationProperties(prefix = "edge-cache")
+@Validated
+@Data
+public class EdgeCacheProperties {
+    /**
+     * Endpoint receiving the {@code PURGE} requests, or null if there is no caching proxy
+     */
+    private URI purgeUri;
+
+    /**
+     * Request header carrying the keys to purge, separated by spaces
+     */
+    @NotBlank
+    private String purgeHeader = SurrogateKeys.SURROGATE_KEY_HEADER;
+
+    @NotNull
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    @NotNull
+    private Duration readTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,46 @@
+package de.muenchen.refarch.configuration;
+
+import de.muenchen.refarch.auth.service.JwtAlgorithm;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.nio.file.Path;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Keys for signing the locally issued JWTs, see {@link de.muenchen.refarch.auth.service.JwtKeyRing}
+ */
+@ConfigurationProperties(prefix = "jwt")
+@Validated
+@Data
+public class JwtProperties {
+    /**
+     * Algorithm of new tokens. Keys of other algorithms in {@link #keyDirectory} are only used to
+     * verify tokens. RS256 is the default as tokens are verified far more often than signed, and
+     * RS256 verifies fastest on the JDK providers, see {@code JwtServiceBenchmark}.
+     */
+    @NotNull
+    private JwtAlgorithm algorithm = JwtAlgorithm.RS256;
+
+    /**
+     * Directory with one key pair per key id: {@code <kid>.pub} with the X.509 public key and,
+     * for keys that sign, {@code <kid>.key} with the PKCS#8 private key, both PEM encoded. Without
+     * a directory, a key is generated on startup and all tokens become invalid on restart.
+     */
+    private Path keyDirectory;
+
+    /**
+     * Key id used for signing. If not set, the greatest key id with a private key of
+     * {@link #algorithm} is used, so keys named by date rotate by adding files.
+     */
+    private String activeKeyId;
+
+    /**
+     * Number of revoked, not yet expired tokens the in-memory revocation filter is sized for, see
+     * {@link de.muenchen.refarch.auth.service.TokenRevocationService}. Beyond that, more lookups
+     * fall through to the exact set.
+     */
+    @Positive
+    private int revocationCapacity = 100_000;
+}
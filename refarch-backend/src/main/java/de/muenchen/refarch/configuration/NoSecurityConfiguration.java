@@ -28,8 +28,8 @@ public class NoSecurityConfiguration {
     private final NoSecurityAuthenticationFilter authenticationFilter;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(final PasswordHashingProperties passwordHashingProperties) {
+        return new BCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength());
     }
 
     @Bean
@@ -0,0 +1,41 @@
+package de.muenchen.refarch.configuration;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Cost of password hashes and the capacity for verifying them, see
+ * {@link de.muenchen.refarch.auth.service.PasswordVerifier}
+ */
+@ConfigurationProperties(prefix = "password-hashing")
+@Validated
+@Data
+public class PasswordHashingProperties {
+    /**
+     * BCrypt cost factor (log2 of the rounds). Stored hashes with a lower cost are rehashed on the
+     * next successful login.
+     */
+    @Min(4)
+    @Max(31)
+    private int bcryptStrength = 10;
+
+    /**
+     * Threads verifying passwords, 0 for one per available processor
+     */
+    @PositiveOrZero
+    private int threads;
+
+    /**
+     * Verifications waiting for a thread. Further logins are rejected until the queue drains.
+     */
+    @PositiveOrZero
+    private int queueCapacity = 64;
+
+    public int effectiveThreads() {
+        return threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+    }
+}
@@ -2,6 +2,7 @@ package de.muenchen.refarch.configuration;
 
 import de.muenchen.refarch.security.DynamicAuthenticationFilter;
 import de.muenchen.refarch.security.DynamicSecurityService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
@@ -40,12 +41,23 @@ public class SecurityConfiguration {
     private final DynamicSecurityService dynamicSecurityService;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(final PasswordHashingProperties passwordHashingProperties) {
+        return new BCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength());
     }
 
     @Bean
-    public SecurityFilterChain filterChain(final HttpSecurity http) throws Exception {
+    public UserInfoClient userInfoClient(final MeterRegistry meterRegistry) {
+        return new UserInfoClient(securityProperties, restTemplateBuilder, meterRegistry);
+    }
+
+    @Bean
+    public UserInfoAuthoritiesService userInfoAuthoritiesService(final UserInfoClient userInfoClient) {
+        return new UserInfoAuthoritiesService(securityProperties, userInfoClient);
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(final HttpSecurity http, final UserInfoAuthoritiesService userInfoAuthoritiesService)
+            throws Exception {
         // Add our dynamic filter first
         http.addFilterBefore(dynamicAuthenticationFilter, BasicAuthenticationFilter.class);
 
@@ -62,7 +74,8 @@ public class SecurityConfiguration {
                             AntPathRequestMatcher.antMatcher("/actuator/metrics"),
                             AntPathRequestMatcher.antMatcher("/auth/login"),
                             AntPathRequestMatcher.antMatcher("/auth/logout"),
-                            AntPathRequestMatcher.antMatcher("/settings"))
+                            AntPathRequestMatcher.antMatcher("/settings"),
+                            AntPathRequestMatcher.antMatcher("/published/**"))
                     .permitAll()
                     .anyRequest()
                     .authenticated());
@@ -76,8 +89,7 @@ public class SecurityConfiguration {
         // Configure OAuth2 but make it optional
         http.oauth2ResourceServer(oauth2 -> oauth2
                 .jwt(jwt -> jwt.jwtAuthenticationConverter(
-                        new JwtUserInfoAuthenticationConverter(
-                                new UserInfoAuthoritiesService(securityProperties.getUserInfoUri(), restTemplateBuilder))))
+                        new JwtUserInfoAuthenticationConverter(userInfoAuthoritiesService)))
                 .bearerTokenResolver(request -> {
                     // Only process bearer tokens if SSO is enabled
                     if (!dynamicSecurityService.isSsoEnabled()) {
@@ -4,8 +4,11 @@ import de.muenchen.refarch.security.RequestResponseLoggingFilter;
 import de.muenchen.refarch.security.RequestResponseLoggingFilter.LoggingMode;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import edu.umd.cs.findbugs.annotations.SuppressMatchType;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
 import java.util.stream.Collectors;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -36,12 +39,37 @@ public class SecurityProperties {
     @NotBlank
     private String userInfoUri;
 
+    /**
+     * Age after which cached userinfo authorities are reloaded in the background on the next request,
+     * see also {@link UserInfoAuthoritiesService}
+     */
+    @NotNull
+    private Duration userInfoRefreshAfter = Duration.ofSeconds(60);
+
+    /**
+     * Age after which cached userinfo authorities are no longer used, even if reloading them failed
+     */
+    @NotNull
+    private Duration userInfoExpireAfter = Duration.ofMinutes(5);
+
+    /**
+     * Connections, timeouts and circuit breaker of the userinfo calls, see also {@link UserInfoClient}
+     */
+    @Valid
+    @NotNull
+    private UserInfoClientSpec userInfoClient = new UserInfoClientSpec();
+
     /**
      * List of paths to ignore when logging HTTP requests, see also {@link RequestResponseLoggingFilter}
      */
     @NotNull
     private List<AntPathRequestMatcher> loggingIgnoreList = List.of(AntPathRequestMatcher.antMatcher("/actuator/**"));
 
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", matchType = SuppressMatchType.EXACT)
+    public UserInfoClientSpec getUserInfoClient() {
+        return userInfoClient;
+    }
+
     @SuppressFBWarnings(value = "EI_EXPOSE_REP", matchType = SuppressMatchType.EXACT)
     public List<AntPathRequestMatcher> getLoggingIgnoreListAsMatchers() {
         return loggingIgnoreList;
@@ -54,4 +82,47 @@ public class SecurityProperties {
     public void setLoggingIgnoreList(final List<String> patterns) {
         this.loggingIgnoreList = patterns.stream().map(AntPathRequestMatcher::new).collect(Collectors.toList());
     }
+
+    /**
+     * Settings of the HTTP client calling the userinfo endpoint
+     */
+    @Data
+    public static class UserInfoClientSpec {
+        /**
+         * Maximum number of concurrent calls, further calls are rejected right away. Also the size of
+         * the connection pool.
+         */
+        @Positive
+        private int maxConcurrentCalls = 20;
+
+        /**
+         * Time to establish a connection
+         */
+        @NotNull
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        /**
+         * Time to wait for the response
+         */
+        @NotNull
+        private Duration readTimeout = Duration.ofSeconds(3);
+
+        /**
+         * Time idle connections are kept open for reuse
+         */
+        @NotNull
+        private Duration keepAlive = Duration.ofSeconds(30);
+
+        /**
+         * Consecutive failed calls after which calls are rejected for {@link #openDuration}
+         */
+        @Positive
+        private int failureThreshold = 5;
+
+        /**
+         * Time calls are rejected after the circuit breaker opened, before a single trial call
+         */
+        @NotNull
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
 }
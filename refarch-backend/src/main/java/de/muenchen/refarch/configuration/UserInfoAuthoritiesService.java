@@ -1,57 +1,82 @@
 package de.muenchen.refarch.configuration;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.cache.Cache;
-import org.springframework.cache.Cache.ValueWrapper;
-import org.springframework.cache.caffeine.CaffeineCache;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.util.ObjectUtils;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * Service that calls an OIDC /userinfo endpoint (with JWT Bearer Auth) and extracts the
  * "Authorities" contained there.
+ * <p>
+ * The authorities are cached per subject. Concurrent requests of a subject missing the cache share
+ * a single call to the endpoint. Entries older than {@code security.user-info-refresh-after} are
+ * reloaded in the background with the latest token of the subject while the cached authorities are
+ * still returned, and are kept if reloading fails, until {@code security.user-info-expire-after}.
  */
 @Slf4j
-public class UserInfoAuthoritiesService {
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class UserInfoAuthoritiesService implements DisposableBean {
 
-    private static final String NAME_AUTHENTICATION_CACHE = "authentication_cache";
-    private static final int AUTHENTICATION_CACHE_ENTRY_SECONDS_TO_EXPIRE = 60;
+    private static final int AUTHENTICATION_CACHE_MAXIMUM_SIZE = 10_000;
 
     private static final String CLAIM_AUTHORITIES = "authorities";
 
-    private final String userInfoUri;
-    private final RestTemplate restTemplate;
-    private final Cache cache;
+    private final UserInfoClient userInfoClient;
+    private final Duration loadTimeout;
+    // the calls block on the endpoint
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Cache<String, Jwt> latestTokens;
+    private final AsyncLoadingCache<String, List<SimpleGrantedAuthority>> cache;
 
     /**
      * Creates a new instance
      *
-     * @param userInfoUri userinfo endpoint URI
-     * @param restTemplateBuilder a {@link RestTemplateBuilder}
+     * @param securityProperties cache durations
+     * @param userInfoClient client of the userinfo endpoint
      */
-    public UserInfoAuthoritiesService(final String userInfoUri, final RestTemplateBuilder restTemplateBuilder) {
-        this.userInfoUri = userInfoUri;
-        this.restTemplate = restTemplateBuilder.build();
-        this.cache = new CaffeineCache(NAME_AUTHENTICATION_CACHE,
-                Caffeine.newBuilder()
-                        .expireAfterWrite(AUTHENTICATION_CACHE_ENTRY_SECONDS_TO_EXPIRE, TimeUnit.SECONDS)
-                        .ticker(Ticker.systemTicker())
-                        .build());
+    public UserInfoAuthoritiesService(final SecurityProperties securityProperties, final UserInfoClient userInfoClient) {
+        this(securityProperties, userInfoClient, Ticker.systemTicker());
+    }
+
+    /* default */ UserInfoAuthoritiesService(final SecurityProperties securityProperties, final UserInfoClient userInfoClient,
+            final Ticker ticker) {
+        this.userInfoClient = userInfoClient;
+        final SecurityProperties.UserInfoClientSpec spec = securityProperties.getUserInfoClient();
+        // waiting for a pooled connection, connecting and reading the response
+        this.loadTimeout = spec.getConnectTimeout().multipliedBy(2).plus(spec.getReadTimeout());
+        // written on every request, so a token is kept at least as long as the authorities loaded with it
+        this.latestTokens = Caffeine.newBuilder()
+                .maximumSize(AUTHENTICATION_CACHE_MAXIMUM_SIZE)
+                .expireAfterWrite(securityProperties.getUserInfoExpireAfter())
+                .ticker(ticker)
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(AUTHENTICATION_CACHE_MAXIMUM_SIZE)
+                .refreshAfterWrite(securityProperties.getUserInfoRefreshAfter())
+                .expireAfterWrite(securityProperties.getUserInfoExpireAfter())
+                .executor(executor)
+                .ticker(ticker)
+                .buildAsync(new Loader());
     }
 
     /**
@@ -61,39 +86,28 @@ public class UserInfoAuthoritiesService {
      * @return the {@link GrantedAuthority}s according to claim "authorities" of /userinfo endpoint
      */
     public Collection<SimpleGrantedAuthority> loadAuthorities(final Jwt jwt) {
-        final ValueWrapper valueWrapper = this.cache.get(jwt.getSubject());
-        if (valueWrapper != null) {
-            // value present in cache
-            @SuppressWarnings("unchecked")
-            final Collection<SimpleGrantedAuthority> authorities = (Collection<SimpleGrantedAuthority>) valueWrapper.get();
-            log.debug("Resolved authorities (from cache): {}", authorities);
+        // a load or reload triggered by this request already uses its token, an older one may have expired
+        latestTokens.put(jwt.getSubject(), jwt);
+        try {
+            final List<SimpleGrantedAuthority> authorities = cache.get(jwt.getSubject()).join();
+            log.debug("Resolved authorities: {}", authorities);
             return authorities;
+        } catch (CompletionException e) {
+            log.error("Could not fetch user details - user is granted NO authorities", e);
+            return List.of();
         }
+    }
 
+    private List<SimpleGrantedAuthority> fetchAuthorities(final Jwt jwt) {
         log.debug("Fetching user-info for token subject: {}", jwt.getSubject());
-        @SuppressWarnings("PMD.LooseCoupling")
-        final HttpHeaders headers = new HttpHeaders();
-        headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + jwt.getTokenValue());
-        final HttpEntity<String> entity = new HttpEntity<>(headers);
+        final Map<String, Object> map = userInfoClient.fetchUserInfo(jwt.getTokenValue());
 
-        Collection<SimpleGrantedAuthority> authorities = new ArrayList<>();
-        try {
-            @SuppressWarnings("unchecked")
-            final Map<String, Object> map = restTemplate.exchange(this.userInfoUri, HttpMethod.GET, entity,
-                    Map.class).getBody();
-
-            log.debug("Response from user-info Endpoint: {}", map);
-            if (map != null && map.containsKey(CLAIM_AUTHORITIES)) {
-                authorities = asAuthorities(map.get(CLAIM_AUTHORITIES));
-            }
-            log.debug("Resolved Authorities (from /userinfo Endpoint): {}", authorities);
-            // store
-            this.cache.put(jwt.getSubject(), authorities);
-        } catch (Exception e) {
-            log.error(String.format("Could not fetch user details from %s - user is granted NO authorities",
-                    this.userInfoUri), e);
+        log.debug("Response from user-info Endpoint: {}", map);
+        List<SimpleGrantedAuthority> authorities = List.of();
+        if (map != null && map.containsKey(CLAIM_AUTHORITIES)) {
+            authorities = asAuthorities(map.get(CLAIM_AUTHORITIES));
         }
-
+        log.debug("Resolved Authorities (from /userinfo Endpoint): {}", authorities);
         return authorities;
     }
 
@@ -111,7 +125,32 @@ public class UserInfoAuthoritiesService {
                             .map(SimpleGrantedAuthority::new)
                             .toList());
         }
-        return authorities;
+        return List.copyOf(authorities);
     }
 
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * Loads and reloads the authorities of a subject with its latest token, see loadAuthorities. The
+     * cache reloads entries in the background and keeps the previous entry if a reload fails.
+     */
+    private final class Loader implements AsyncCacheLoader<String, List<SimpleGrantedAuthority>> {
+        @Override
+        public CompletableFuture<List<SimpleGrantedAuthority>> asyncLoad(final String subject, final Executor executor) {
+            // a reload that does not complete would block all further reloads of the subject
+            return CompletableFuture.supplyAsync(() -> fetchAuthorities(latestToken(subject)), executor)
+                    .orTimeout(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private Jwt latestToken(final String subject) {
+            final Jwt token = latestTokens.getIfPresent(subject);
+            if (token == null) {
+                throw new IllegalStateException("No token to load the authorities of " + subject);
+            }
+            return token;
+        }
+    }
 }
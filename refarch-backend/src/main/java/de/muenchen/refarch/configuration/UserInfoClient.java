@@ -0,0 +1,179 @@
+package de.muenchen.refarch.configuration;
+
+import de.muenchen.refarch.common.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Calls the OIDC /userinfo endpoint over a dedicated connection pool with strict timeouts, so a
+ * slow identity provider cannot hold more than a bounded number of threads.
+ * <p>
+ * Calls beyond {@code max-concurrent-calls} are rejected instead of queued, and after repeated
+ * failures a circuit breaker rejects all calls for a while. Rejected calls fail with a
+ * {@link ResourceAccessException} like unreachable endpoints. Pool, bulkhead and breaker state are
+ * exported as metrics.
+ */
+@Slf4j
+public final class UserInfoClient implements AutoCloseable {
+
+    private static final String METRIC_PREFIX = "userinfo.client";
+    private static final String REASON = "reason";
+
+    private final String userInfoUri;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+
+    /**
+     * Creates a new instance
+     *
+     * @param securityProperties userinfo endpoint URI and client settings
+     * @param restTemplateBuilder a {@link RestTemplateBuilder}
+     * @param meterRegistry registry to export pool, bulkhead and breaker state to
+     */
+    public UserInfoClient(final SecurityProperties securityProperties, final RestTemplateBuilder restTemplateBuilder,
+            final MeterRegistry meterRegistry) {
+        this(securityProperties, restTemplateBuilder, meterRegistry, System::nanoTime);
+    }
+
+    /* default */ UserInfoClient(final SecurityProperties securityProperties, final RestTemplateBuilder restTemplateBuilder,
+            final MeterRegistry meterRegistry, final LongSupplier nanoClock) {
+        final SecurityProperties.UserInfoClientSpec spec = securityProperties.getUserInfoClient();
+        this.userInfoUri = securityProperties.getUserInfoUri();
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(spec.getMaxConcurrentCalls())
+                .setMaxConnPerRoute(spec.getMaxConcurrentCalls())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(spec.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(spec.getReadTimeout()))
+                        // a pooled connection the endpoint closed in the meantime is replaced before the
+                        // request is written to it, instead of the call waiting on a dead connection
+                        .setValidateAfterInactivity(TimeValue.ZERO_MILLISECONDS)
+                        .build())
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // the bulkhead already bounds the calls to the pool size
+                        .setConnectionRequestTimeout(Timeout.of(spec.getConnectTimeout()))
+                        .setResponseTimeout(Timeout.of(spec.getReadTimeout()))
+                        .build())
+                // at most as long as the endpoint announces to keep the connection open
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(spec.getKeepAlive())
+                        .min(DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context)))
+                .evictIdleConnections(TimeValue.of(spec.getKeepAlive()))
+                .evictExpiredConnections()
+                .build();
+        this.restTemplate = restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        this.bulkhead = new Semaphore(spec.getMaxConcurrentCalls());
+        this.circuitBreaker = new CircuitBreaker(spec.getFailureThreshold(), spec.getOpenDuration(), nanoClock);
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "userinfo").bindTo(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Further concurrent userinfo calls allowed")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Circuit breaker of the userinfo calls: 0 closed, 1 open, 2 half open")
+                .register(meterRegistry);
+        this.bulkheadRejections = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Userinfo calls rejected without calling the endpoint")
+                .tag(REASON, "bulkhead")
+                .register(meterRegistry);
+        this.circuitRejections = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Userinfo calls rejected without calling the endpoint")
+                .tag(REASON, "circuit-open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fetches the userinfo of a token.
+     *
+     * @param tokenValue the access token
+     * @return the claims of the userinfo response
+     * @throws ResourceAccessException if the call was rejected, timed out or the endpoint is
+     *             unreachable
+     * @throws org.springframework.web.client.RestClientResponseException if the endpoint answered with
+     *             an error
+     */
+    public Map<String, Object> fetchUserInfo(final String tokenValue) {
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejections.increment();
+            throw new ResourceAccessException("Too many concurrent userinfo calls");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                circuitRejections.increment();
+                throw new ResourceAccessException("Userinfo calls are suspended after repeated failures");
+            }
+            return call(tokenValue);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Map<String, Object> call(final String tokenValue) {
+        boolean failed = true;
+        try {
+            final Map<String, Object> userInfo = exchange(tokenValue);
+            failed = false;
+            return userInfo;
+        } catch (HttpClientErrorException e) {
+            // e.g. an expired token, the endpoint itself is fine
+            failed = false;
+            throw e;
+        } finally {
+            if (failed) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> exchange(final String tokenValue) {
+        @SuppressWarnings("PMD.LooseCoupling")
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(tokenValue);
+        return restTemplate.exchange(userInfoUri, HttpMethod.GET, new HttpEntity<>(headers), Map.class).getBody();
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
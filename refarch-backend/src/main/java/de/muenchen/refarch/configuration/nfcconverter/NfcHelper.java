@@ -23,6 +23,8 @@ import org.apache.commons.collections4.map.CaseInsensitiveMap;
 @Slf4j
 public class NfcHelper {
 
+    private static final char FIRST_NON_ASCII = 0x80;
+
     /**
      * Converting a string to the canonical Unicode normal form (NFC)
      *
@@ -36,6 +38,11 @@ public class NfcHelper {
             return null;
         }
 
+        if (isAscii(in)) {
+            // ASCII is always in NFC
+            return in;
+        }
+
         log.debug("String BEFORE nfc conversion: \"{}\".", in);
         log.debug("Length of String BEFORE nfc conversion: {}.", in.length());
         final String nfcConvertedContent = Normalizer.normalize(in, Normalizer.Form.NFC);
@@ -44,6 +51,18 @@ public class NfcHelper {
         return nfcConvertedContent;
     }
 
+    /* default */ static boolean isAscii(final String in) {
+        if (in == null) {
+            return true;
+        }
+        for (int i = 0; i < in.length(); i++) {
+            if (in.charAt(i) >= FIRST_NON_ASCII) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Converting {@link StringBuffer} content to canonical Unicode normal form (NFC)
      *
@@ -95,6 +114,10 @@ public class NfcHelper {
      * @see Normalizer#normalize(CharSequence, Normalizer.Form)
      */
     public static Cookie nfcConverter(final Cookie original) {
+        if (isAscii(original.getName()) && isAscii(original.getValue()) && isAscii(original.getDomain())
+                && isAscii(original.getPath())) {
+            return original;
+        }
         final Cookie nfcCookie = new Cookie(nfcConverter(original.getName()), nfcConverter(original.getValue()));
         if (original.getDomain() != null) {
             nfcCookie.setDomain(nfcConverter(original.getDomain()));
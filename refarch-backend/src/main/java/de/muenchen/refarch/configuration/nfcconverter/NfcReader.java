@@ -1,12 +1,10 @@
 package de.muenchen.refarch.configuration.nfcconverter;
 
-import java.io.CharArrayReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.text.Normalizer;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 
 /**
  * <p>
@@ -17,79 +15,195 @@ import org.apache.commons.io.IOUtils;
  * <ul>
  * <li>With Java readers and writers, an NFC conversion can be carried out safely, as characters are
  * processed there.</li>
- * <li>Before reading the first character, this reader reads the complete text of the wrapped reader
- * into an internal buffer and performs NFC normalization on it.
- * The reason is that NFC conversion cannot be performed on a character-by-character basis.</li>
+ * <li>The wrapped reader is normalized chunk by chunk, so memory use does not depend on the length
+ * of the text. NFC conversion cannot be performed on a character-by-character basis, therefore each
+ * chunk ends before a character that never combines with the preceding ones.</li>
+ * <li>Chunks that are pure ASCII or already in NFC are passed through unchanged.</li>
  * </ul>
  */
 @Slf4j
-@RequiredArgsConstructor
 public class NfcReader extends Reader {
 
+    /**
+     * Default number of characters read from the wrapped reader at once.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private static final char FIRST_NON_ASCII = 0x80;
+
+    private static final int FIRST_COMBINING_MARK = 0x300;
+
+    private static final int HANGUL_JAMO_FIRST_VOWEL = 0x1160;
+
+    private static final int HANGUL_JAMO_LAST_CONSONANT = 0x11FF;
+
+    private static final int HANGUL_JAMO_EXTENDED_B_FIRST = 0xD7B0;
+
+    private static final int HANGUL_JAMO_EXTENDED_B_LAST = 0xD7FF;
+
     private final Reader original;
 
-    private CharArrayReader converted;
+    private final char[] input;
 
-    private void convert() {
-        if (converted != null) {
-            return;
+    /**
+     * Number of characters at the start of {@link #input} carried over from the previous chunk.
+     */
+    private int carried;
+
+    private boolean endOfInput;
+
+    private char[] output;
+
+    private int outputLength;
+
+    private int outputPosition;
+
+    public NfcReader(final Reader original) {
+        this(original, DEFAULT_CHUNK_SIZE);
+    }
+
+    /* default */ NfcReader(final Reader original, final int chunkSize) {
+        super();
+        this.original = original;
+        this.input = new char[chunkSize];
+        this.output = new char[chunkSize];
+    }
+
+    /**
+     * Makes sure there is converted data to read.
+     *
+     * @return false if the wrapped reader is exhausted
+     */
+    private boolean fill() throws IOException {
+        while (outputPosition >= outputLength) {
+            if (endOfInput && carried == 0) {
+                return false;
+            }
+            final int read = endOfInput ? -1 : original.read(input, carried, input.length - carried);
+            endOfInput = read < 0;
+            final int end = endOfInput ? carried : carried + read;
+            final int boundary = endOfInput ? end : chunkEnd(end);
+            if (boundary > 0) {
+                convert(boundary);
+                System.arraycopy(input, boundary, input, 0, end - boundary);
+            }
+            carried = end - boundary;
         }
+        return true;
+    }
 
-        log.debug("Converting Reader data to NFC.");
-        try {
-            final String nfdContent = IOUtils.toString(original);
-            final String nfcConvertedContent = NfcHelper.nfcConverter(nfdContent);
-            converted = new CharArrayReader(nfcConvertedContent.toCharArray());
-        } catch (final IOException e) {
-            throw new RuntimeException(e);
+    private int chunkEnd(final int end) {
+        final int boundary = lastBoundary(input, end);
+        // A single combining sequence longer than the chunk is split rather than growing the buffer
+        // without limit
+        return boundary == 0 && end == input.length ? end : boundary;
+    }
+
+    private void convert(final int length) {
+        outputPosition = 0;
+        if (isAscii(input, length)) {
+            copyToOutput(input, length);
+            return;
         }
+        final String chunk = new String(input, 0, length);
+        if (Normalizer.isNormalized(chunk, Normalizer.Form.NFC)) {
+            copyToOutput(input, length);
+            return;
+        }
+        log.debug("Converting Reader data to NFC.");
+        final char[] converted = NfcHelper.nfcConverter(chunk).toCharArray();
+        copyToOutput(converted, converted.length);
     }
 
-    @Override
-    public int read() throws IOException {
-        convert();
-        return converted.read();
+    private void copyToOutput(final char[] source, final int length) {
+        if (output.length < length) {
+            output = new char[length];
+        }
+        System.arraycopy(source, 0, output, 0, length);
+        outputLength = length;
     }
 
-    @Override
-    public int read(final char[] cbuf, final int off, final int len) throws IOException {
-        convert();
-        return converted.read(cbuf, off, len);
+    private static boolean isAscii(final char[] chars, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (chars[i] >= FIRST_NON_ASCII) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    @Override
-    public void close() {
-        // Nothing to do
+    /**
+     * Finds the last position in the buffer at which the text may be split without changing the result
+     * of the NFC conversion: before a character that never combines with the characters preceding it.
+     *
+     * @param chars buffer
+     * @param end number of valid characters in the buffer
+     * @return the split position, or 0 if there is none
+     */
+    /* default */ static int lastBoundary(final char[] chars, final int end) {
+        for (int i = end - 1; i > 0; i--) {
+            final char c = chars[i];
+            if (Character.isLowSurrogate(c)) {
+                continue;
+            }
+            if (Character.isHighSurrogate(c) && i + 1 == end) {
+                // incomplete surrogate pair, the low surrogate is still to be read
+                continue;
+            }
+            if (isStarter(Character.codePointAt(chars, i, end))) {
+                return i;
+            }
+        }
+        return 0;
     }
 
-    @Override
-    public long skip(final long n) throws IOException {
-        convert();
-        return converted.skip(n);
+    /**
+     * Whether the code point starts a new combining sequence: it is no combining mark and no conjoining
+     * Hangul vowel or final consonant, the only characters that NFC composes with preceding ones.
+     */
+    private static boolean isStarter(final int codePoint) {
+        if (codePoint < FIRST_COMBINING_MARK) {
+            return true;
+        }
+        if (codePoint >= HANGUL_JAMO_FIRST_VOWEL && codePoint <= HANGUL_JAMO_LAST_CONSONANT
+                || codePoint >= HANGUL_JAMO_EXTENDED_B_FIRST && codePoint <= HANGUL_JAMO_EXTENDED_B_LAST) {
+            return false;
+        }
+        final int type = Character.getType(codePoint);
+        return type != Character.NON_SPACING_MARK && type != Character.COMBINING_SPACING_MARK
+                && type != Character.ENCLOSING_MARK;
     }
 
     @Override
-    public boolean ready() throws IOException {
-        convert();
-        return converted.ready();
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return output[outputPosition++];
     }
 
     @Override
-    public boolean markSupported() {
-        convert();
-        return converted.markSupported();
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        final int count = Math.min(len, outputLength - outputPosition);
+        System.arraycopy(output, outputPosition, cbuf, off, count);
+        outputPosition += count;
+        return count;
     }
 
     @Override
-    public void mark(final int readAheadLimit) throws IOException {
-        convert();
-        converted.mark(readAheadLimit);
+    public void close() throws IOException {
+        original.close();
     }
 
     @Override
-    public void reset() throws IOException {
-        convert();
-        converted.reset();
+    public boolean ready() throws IOException {
+        return outputPosition < outputLength || original.ready();
     }
 
 }
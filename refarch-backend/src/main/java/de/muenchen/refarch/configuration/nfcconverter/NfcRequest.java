@@ -1,7 +1,5 @@
 package de.muenchen.refarch.configuration.nfcconverter;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import edu.umd.cs.findbugs.annotations.SuppressMatchType;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.Cookie;
@@ -9,9 +7,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.Part;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,7 +21,7 @@ import java.util.Map;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IteratorUtils;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.ReaderInputStream;
 
 /**
  * Wrapper for HttpServletRequest that performs NFC conversion.
@@ -31,11 +31,11 @@ import org.apache.commons.io.IOUtils;
 @Slf4j
 public class NfcRequest extends HttpServletRequestWrapper implements HttpServletRequest {
 
-    private Map<String, String[]> params;
+    private Map<String, String[]> convertedParams;
 
-    private Cookie[] cookies;
+    private Cookie[] convertedCookies;
 
-    private Map<String, List<String>> headers;
+    private Map<String, List<String>> convertedHeaders;
 
     @SuppressWarnings("unused")
     final private Set<String> contentTypes;
@@ -45,86 +45,106 @@ public class NfcRequest extends HttpServletRequestWrapper implements HttpServlet
         this.contentTypes = Set.copyOf(contentTypes);
     }
 
-    private void convert() {
-        if (params != null) {
-            return;
+    private Map<String, String[]> params() {
+        if (convertedParams == null) {
+            convertedParams = NfcHelper.nfcConverter(getRequest().getParameterMap());
         }
-        this.params = NfcHelper.nfcConverter(getRequest().getParameterMap());
-        this.cookies = NfcHelper.nfcConverter(getOriginalRequest().getCookies());
-        this.headers = NfcHelper.nfcConverterForHeadersFromOriginalRequest(getOriginalRequest());
+        return convertedParams;
+    }
+
+    private Cookie[] cookies() {
+        if (convertedCookies == null) {
+            convertedCookies = NfcHelper.nfcConverter(getOriginalRequest().getCookies());
+        }
+        return convertedCookies;
+    }
+
+    private Map<String, List<String>> headers() {
+        if (convertedHeaders == null) {
+            convertedHeaders = NfcHelper.nfcConverterForHeadersFromOriginalRequest(getOriginalRequest());
+        }
+        return convertedHeaders;
     }
 
     @Override
     public Cookie[] getCookies() {
-        convert();
-        return Arrays.copyOf(this.cookies, this.cookies.length);
+        final Cookie[] converted = cookies();
+        return Arrays.copyOf(converted, converted.length);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * As long as no other header has been requested by a non-ASCII name, only the requested header is
+     * converted.
+     */
     @Override
     public String getHeader(final String name) {
-        convert();
-        final List<String> values = headers.get(NfcHelper.nfcConverter(name));
+        if (isDirectLookup(name)) {
+            return NfcHelper.nfcConverter(getOriginalRequest().getHeader(name));
+        }
+        final List<String> values = headers().get(NfcHelper.nfcConverter(name));
         return (values == null) ? null : values.getFirst();
     }
 
     @Override
     public Enumeration<String> getHeaders(final String name) {
-        convert();
-        final List<String> values = this.headers.get(NfcHelper.nfcConverter(name));
+        final List<String> values = isDirectLookup(name)
+                ? Collections.list(getOriginalRequest().getHeaders(name)).stream().map(NfcHelper::nfcConverter).toList()
+                : headers().get(NfcHelper.nfcConverter(name));
         return (values == null) ? Collections.emptyEnumeration() : IteratorUtils.asEnumeration(values.iterator());
     }
 
+    /**
+     * Header names are ASCII tokens, so they can be looked up in the original request without
+     * converting all headers first. Names that are not ASCII are matched against the converted names.
+     */
+    private boolean isDirectLookup(final String name) {
+        return convertedHeaders == null && NfcHelper.isAscii(name);
+    }
+
     @Override
     public Enumeration<String> getHeaderNames() {
-        convert();
-        return IteratorUtils.asEnumeration(this.headers.keySet().iterator());
+        return IteratorUtils.asEnumeration(headers().keySet().iterator());
     }
 
     @Override
     public String getPathInfo() {
-        convert();
         return NfcHelper.nfcConverter(getOriginalRequest().getPathInfo());
     }
 
     @Override
     public String getPathTranslated() {
-        convert();
         return NfcHelper.nfcConverter(getOriginalRequest().getPathTranslated());
     }
 
     @Override
     public String getContextPath() {
-        convert();
         return NfcHelper.nfcConverter(getOriginalRequest().getContextPath());
     }
 
     @Override
     public String getQueryString() {
-        convert();
         return NfcHelper.nfcConverter(getOriginalRequest().getQueryString());
     }
 
     @Override
     public String getRemoteUser() {
-        convert();
         return NfcHelper.nfcConverter(getOriginalRequest().getRemoteUser());
     }
 
     @Override
     public String getRequestedSessionId() {
-        convert();
         return NfcHelper.nfcConverter(getOriginalRequest().getRequestedSessionId());
     }
 
     @Override
     public String getRequestURI() {
-        convert();
         return NfcHelper.nfcConverter(getOriginalRequest().getRequestURI());
     }
 
     @Override
     public StringBuffer getRequestURL() {
-        convert();
         return NfcHelper.nfcConverter(getOriginalRequest().getRequestURL());
     }
 
@@ -140,27 +160,23 @@ public class NfcRequest extends HttpServletRequestWrapper implements HttpServlet
 
     @Override
     public String getParameter(final String name) {
-        convert();
-        final String[] values = this.params.get(NfcHelper.nfcConverter(name));
+        final String[] values = params().get(NfcHelper.nfcConverter(name));
         return (values == null) ? null : values[0];
     }
 
     @Override
     public Map<String, String[]> getParameterMap() {
-        convert();
-        return Map.copyOf(this.params);
+        return Map.copyOf(params());
     }
 
     @Override
     public Enumeration<String> getParameterNames() {
-        convert();
-        return IteratorUtils.asEnumeration(this.params.keySet().iterator());
+        return IteratorUtils.asEnumeration(params().keySet().iterator());
     }
 
     @Override
     public String[] getParameterValues(final String name) {
-        convert();
-        return this.params.get(NfcHelper.nfcConverter(name));
+        return params().get(NfcHelper.nfcConverter(name));
     }
 
     @Override
@@ -186,20 +202,23 @@ public class NfcRequest extends HttpServletRequestWrapper implements HttpServlet
         return getOriginalRequest().getParts();
     }
 
-    @SuppressFBWarnings(value = "DM_DEFAULT_ENCODING", matchType = SuppressMatchType.EXACT)
+    /**
+     * Returns the body normalized to NFC while it is read, decoded and re-encoded with the charset of
+     * the request (UTF-8 if none is given).
+     *
+     * @see NfcReader
+     */
     @Override
     public ServletInputStream getInputStream() throws IOException {
-
         final String encoding = getOriginalRequest().getCharacterEncoding();
-
-        final String content;
-        try (InputStream is = getOriginalRequest().getInputStream()) {
-            content = new String(IOUtils.toByteArray(is), encoding);
-        }
+        final Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
 
         log.debug("Converting InputStream data to NFC.");
-        final String nfcConvertedContent = NfcHelper.nfcConverter(content);
-        return new NfcServletInputStream(new ByteArrayInputStream(nfcConvertedContent.getBytes()));
+        final Reader reader = new NfcReader(new InputStreamReader(getOriginalRequest().getInputStream(), charset));
+        return new NfcServletInputStream(ReaderInputStream.builder()
+                .setReader(reader)
+                .setCharset(charset)
+                .get());
     }
 
     private HttpServletRequest getOriginalRequest() {
@@ -2,29 +2,41 @@ package de.muenchen.refarch.configuration.nfcconverter;
 
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import org.apache.commons.lang3.NotImplementedException;
 
 /**
- * ServletInputStream, which reads from a buffer.
+ * ServletInputStream, which reads from another stream.
  */
 public class NfcServletInputStream extends ServletInputStream {
 
-    private final ByteArrayInputStream buffer;
+    private final InputStream source;
 
-    public NfcServletInputStream(final ByteArrayInputStream buffer) {
+    private boolean finished;
+
+    public NfcServletInputStream(final InputStream source) {
         super();
-        this.buffer = buffer;
+        this.source = source;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int read = source.read();
+        finished = read < 0;
+        return read;
     }
 
     @Override
-    public int read() {
-        return buffer.read();
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int read = source.read(b, off, len);
+        finished = read < 0;
+        return read;
     }
 
     @Override
     public boolean isFinished() {
-        return buffer.available() == 0;
+        return finished;
     }
 
     @Override
@@ -37,4 +49,9 @@ public class NfcServletInputStream extends ServletInputStream {
         throw new NotImplementedException("Not implemented");
     }
 
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
 }
@@ -0,0 +1,20 @@
+package de.muenchen.refarch.edgecache;
+
+import java.util.Set;
+
+/**
+ * Published by the services for every write, and handed to the {@link CachePurger} by
+ * {@link CachePurgeListener} once the write is committed.
+ *
+ * @param keys the {@link SurrogateKeys} of all responses the write made stale
+ */
+public record CachePurgeEvent(Set<String> keys) {
+
+    public CachePurgeEvent {
+        keys = Set.copyOf(keys);
+    }
+
+    public static CachePurgeEvent of(final String... keys) {
+        return new CachePurgeEvent(Set.of(keys));
+    }
+}
@@ -0,0 +1,26 @@
+package de.muenchen.refarch.edgecache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Forwards {@link CachePurgeEvent}s to the {@link CachePurger}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CachePurgeListener {
+
+    private final CachePurger cachePurger;
+
+    /**
+     * Purges once the write is committed, so the proxy cannot fetch and cache the old state again, or
+     * right away if the event was published outside of a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCachePurgeEvent(final CachePurgeEvent event) {
+        if (!event.keys().isEmpty()) {
+            cachePurger.purge(event.keys());
+        }
+    }
+}
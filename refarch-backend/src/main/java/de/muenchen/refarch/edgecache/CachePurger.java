@@ -0,0 +1,18 @@
+package de.muenchen.refarch.edgecache;
+
+import java.util.Set;
+
+/**
+ * Removes cached responses from a caching proxy by their {@link SurrogateKeys}.
+ */
+@FunctionalInterface
+public interface CachePurger {
+
+    /**
+     * Purges all cached responses tagged with at least one of the keys. Failures are not thrown, as
+     * the write that made the responses stale is already committed.
+     *
+     * @param keys the keys to purge
+     */
+    void purge(Set<String> keys);
+}
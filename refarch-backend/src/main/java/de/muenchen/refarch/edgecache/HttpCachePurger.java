@@ -0,0 +1,70 @@
+package de.muenchen.refarch.edgecache;
+
+import de.muenchen.refarch.configuration.EdgeCacheProperties;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Purges by sending an HTTP {@code PURGE} request to the proxy, with the keys in the configured
+ * header, e.g. {@code Surrogate-Key: page:1 lang:2}.
+ */
+@Slf4j
+public class HttpCachePurger implements CachePurger, AutoCloseable {
+
+    /* default */ static final String PURGE = "PURGE";
+
+    private final URI purgeUri;
+    private final String purgeHeader;
+    private final Duration readTimeout;
+    private final HttpClient httpClient;
+
+    /**
+     * Creates a new instance
+     *
+     * @param properties purge endpoint and client settings
+     */
+    public HttpCachePurger(final EdgeCacheProperties properties) {
+        this.purgeUri = properties.getPurgeUri();
+        this.purgeHeader = properties.getPurgeHeader();
+        this.readTimeout = properties.getReadTimeout();
+        // HttpComponentsClientHttpRequestFactory and HttpURLConnection reject PURGE, the JDK client accepts
+        // any request method
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+    }
+
+    @Override
+    public void purge(final Set<String> keys) {
+        try {
+            final HttpRequest request = HttpRequest.newBuilder(purgeUri)
+                    .method(PURGE, HttpRequest.BodyPublishers.noBody())
+                    .header(purgeHeader, String.join(" ", keys))
+                    .timeout(readTimeout)
+                    .build();
+            final int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status >= 400) {
+                log.warn("Could not purge {} from {}: status {}", keys, purgeUri, status);
+            } else {
+                log.debug("Purged {} from {}", keys, purgeUri);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while purging {} from {}", keys, purgeUri);
+        } catch (IOException | RuntimeException e) {
+            // the cached responses expire on their own, a failed purge must not fail the write
+            log.warn("Could not purge {} from {}: {}", keys, purgeUri, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+}
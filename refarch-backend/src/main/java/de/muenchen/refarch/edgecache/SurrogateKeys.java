@@ -0,0 +1,62 @@
+package de.muenchen.refarch.edgecache;
+
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Names the cache tags of responses, so a caching proxy can purge all responses that depend on a
+ * changed item. Single items are tagged {@code <type>:<id>}, listings with the plural of the type.
+ */
+public final class SurrogateKeys {
+
+    /**
+     * Header read by Fastly, Varnish xkey and most other proxies, keys are separated by spaces
+     */
+    public static final String SURROGATE_KEY_HEADER = "Surrogate-Key";
+
+    /**
+     * Header read by Cloudflare and Akamai, keys are separated by commas
+     */
+    public static final String CACHE_TAG_HEADER = "Cache-Tag";
+
+    public static final String PAGES = "pages";
+    public static final String POSTS = "posts";
+    public static final String HOMEPAGES = "homepages";
+    public static final String LINKS = "links";
+
+    private SurrogateKeys() {
+    }
+
+    public static String page(final UUID id) {
+        return "page:" + id;
+    }
+
+    public static String post(final UUID id) {
+        return "post:" + id;
+    }
+
+    public static String homepage(final UUID id) {
+        return "homepage:" + id;
+    }
+
+    public static String link(final UUID id) {
+        return "link:" + id;
+    }
+
+    public static String language(final UUID id) {
+        return "lang:" + id;
+    }
+
+    /**
+     * Returns the {@link #SURROGATE_KEY_HEADER} and {@link #CACHE_TAG_HEADER} headers of a response.
+     *
+     * @param keys the keys the response depends on
+     */
+    public static HttpHeaders headers(final Collection<String> keys) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(SURROGATE_KEY_HEADER, String.join(" ", keys));
+        headers.set(CACHE_TAG_HEADER, String.join(",", keys));
+        return headers;
+    }
+}
@@ -1,11 +1,16 @@
 package de.muenchen.refarch.globalsettings;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
 public interface GlobalSettingsRepository extends JpaRepository<GlobalSettings, UUID> {
-    // Since we only have one global settings record, we don't need additional methods
+    // Since we only have one global settings record, we don't need additional lookup methods
+
+    @Query("SELECT MAX(g.updatedAt) FROM GlobalSettings g")
+    LocalDateTime findLastUpdate();
 }
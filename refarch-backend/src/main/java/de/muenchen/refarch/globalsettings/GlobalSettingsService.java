@@ -6,24 +6,71 @@ import de.muenchen.refarch.security.Authorities;
 import de.muenchen.refarch.security.DynamicSecurityService.GlobalSettingsChangedEvent;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Manages the global settings. Reads are served from an immutable in-memory snapshot, which is
+ * replaced whenever a {@link GlobalSettingsChangedEvent} is published. Changes made by other
+ * instances are picked up by polling the last update timestamp.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class GlobalSettingsService {
     private final GlobalSettingsRepository globalSettingsRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<GlobalSettingsResponseDTO> snapshot = new AtomicReference<>();
 
     @PreAuthorize(Authorities.SETTINGS_READ)
-    @Transactional(readOnly = true)
     public GlobalSettingsResponseDTO getCurrentSettings() {
-        return globalSettingsRepository.findAll().stream()
+        final GlobalSettingsResponseDTO current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        final GlobalSettingsResponseDTO loaded = globalSettingsRepository.findAll().stream()
                 .findFirst()
                 .map(this::mapToResponseDTO)
                 .orElseThrow(() -> new EntityNotFoundException("Global settings not found"));
+        snapshot.compareAndSet(null, loaded);
+        return snapshot.get();
+    }
+
+    /**
+     * Replaces the snapshot once the change is committed, or right away if it was published outside of
+     * a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGlobalSettingsChanged(final GlobalSettingsChangedEvent event) {
+        snapshot.set(mapToResponseDTO(event.newSettings()));
+    }
+
+    /**
+     * Reloads the settings if another instance changed them, and propagates the change to all
+     * consumers of {@link GlobalSettingsChangedEvent}.
+     */
+    @Scheduled(fixedDelayString = "${global-settings.refresh-interval:30s}")
+    public void refreshIfChanged() {
+        final GlobalSettingsResponseDTO current = snapshot.get();
+        final LocalDateTime lastUpdate = globalSettingsRepository.findLastUpdate();
+        if (current == null || Objects.equals(current.updatedAt(), lastUpdate)) {
+            return;
+        }
+        globalSettingsRepository.findAll().stream()
+                .findFirst()
+                .ifPresent(settings -> {
+                    log.info("Global settings were changed by another instance, reloading");
+                    eventPublisher.publishEvent(new GlobalSettingsChangedEvent(settings));
+                });
     }
 
     @PreAuthorize(Authorities.SETTINGS_WRITE)
@@ -47,7 +94,8 @@ public class GlobalSettingsService {
         settings.setSsoAuthEnabled(request.ssoAuthEnabled());
         settings.setPasswordAuthEnabled(request.passwordAuthEnabled());
 
-        final GlobalSettings savedSettings = globalSettingsRepository.save(settings);
+        // flush so @PreUpdate has set updatedAt before the snapshot and the response are built from it
+        final GlobalSettings savedSettings = globalSettingsRepository.saveAndFlush(settings);
         eventPublisher.publishEvent(new GlobalSettingsChangedEvent(savedSettings));
         return mapToResponseDTO(savedSettings);
     }
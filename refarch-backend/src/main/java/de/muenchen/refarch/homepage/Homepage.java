@@ -1,6 +1,7 @@
 package de.muenchen.refarch.homepage;
 
 import de.muenchen.refarch.common.EntityCopyUtils;
+import de.muenchen.refarch.common.UuidV7Generator;
 import de.muenchen.refarch.homepage.content.HomepageContent;
 import de.muenchen.refarch.link.Link;
 import jakarta.persistence.*;
@@ -10,12 +11,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 
 @Entity
 @Table(name = "homepage")
@@ -25,8 +28,9 @@ import java.util.Set;
 public class Homepage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private java.util.UUID id;
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
 
     @OneToOne
     @JoinColumn(name = "link_id")
@@ -52,9 +56,15 @@ public class Homepage {
         return EntityCopyUtils.copyLink(link);
     }
 
+    /**
+     * Returns the link id without copying or initializing the link.
+     */
+    public UUID getLinkId() {
+        return link == null ? null : link.getId();
+    }
+
     public Set<HomepageContent> getContents() {
-        return contents == null ? Collections.emptySet()
-                : Collections.unmodifiableSet(new HashSet<>(contents));
+        return contents == null ? Collections.emptySet() : Collections.unmodifiableSet(contents);
     }
 
     @Override
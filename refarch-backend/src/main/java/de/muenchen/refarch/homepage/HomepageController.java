@@ -1,18 +1,27 @@
 package de.muenchen.refarch.homepage;
 
+import de.muenchen.refarch.edgecache.SurrogateKeys;
 import de.muenchen.refarch.homepage.content.dto.HomepageContentRequestDTO;
 import de.muenchen.refarch.homepage.content.dto.HomepageContentResponseDTO;
 import de.muenchen.refarch.homepage.dto.HomepageRequestDTO;
 import de.muenchen.refarch.homepage.dto.HomepageResponseDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Tags all read responses with {@link SurrogateKeys}, so a caching proxy can purge them when the
+ * homepages, their links or languages change.
+ */
 @RestController
 @RequestMapping("/homepages")
 @RequiredArgsConstructor
@@ -22,12 +31,14 @@ public class HomepageController {
 
     @GetMapping
     public ResponseEntity<List<HomepageResponseDTO>> getAllHomepages() {
-        return ResponseEntity.ok(homepageService.findAll());
+        final List<HomepageResponseDTO> homepages = homepageService.findAll();
+        return ResponseEntity.ok().headers(surrogateKeys(homepages, SurrogateKeys.HOMEPAGES)).body(homepages);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<HomepageResponseDTO> getHomepageById(@PathVariable final UUID id) {
-        return ResponseEntity.ok(homepageService.findById(id));
+        final HomepageResponseDTO homepage = homepageService.findById(id);
+        return ResponseEntity.ok().headers(surrogateKeys(List.of(homepage), SurrogateKeys.homepage(id))).body(homepage);
     }
 
     @PostMapping
@@ -52,14 +63,20 @@ public class HomepageController {
     @GetMapping("/{homepageId}/content")
     public ResponseEntity<List<HomepageContentResponseDTO>> getAllHomepageContent(
             @PathVariable final UUID homepageId) {
-        return ResponseEntity.ok(homepageService.findAllContentByHomepage(homepageId));
+        final List<HomepageContentResponseDTO> contents = homepageService.findAllContentByHomepage(homepageId);
+        final Set<String> keys = new LinkedHashSet<>();
+        keys.add(SurrogateKeys.homepage(homepageId));
+        contents.forEach(content -> keys.add(SurrogateKeys.language(content.languageId())));
+        return ResponseEntity.ok().headers(SurrogateKeys.headers(keys)).body(contents);
     }
 
     @GetMapping("/{homepageId}/content/{languageId}")
     public ResponseEntity<HomepageContentResponseDTO> getHomepageContent(
             @PathVariable final UUID homepageId,
             @PathVariable final UUID languageId) {
-        return ResponseEntity.ok(homepageService.findContentByHomepageAndLanguage(homepageId, languageId));
+        return ResponseEntity.ok()
+                .headers(SurrogateKeys.headers(List.of(SurrogateKeys.homepage(homepageId), SurrogateKeys.language(languageId))))
+                .body(homepageService.findContentByHomepageAndLanguage(homepageId, languageId));
     }
 
     @PostMapping("/{homepageId}/content")
@@ -85,4 +102,19 @@ public class HomepageController {
         homepageService.deleteContent(homepageId, languageId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Returns the given key plus the keys of the links and languages the homepages depend on.
+     */
+    private static HttpHeaders surrogateKeys(final Collection<HomepageResponseDTO> homepages, final String key) {
+        final Set<String> keys = new LinkedHashSet<>();
+        keys.add(key);
+        homepages.forEach(homepage -> {
+            if (homepage.linkId() != null) {
+                keys.add(SurrogateKeys.link(homepage.linkId()));
+            }
+            homepage.contents().forEach(content -> keys.add(SurrogateKeys.language(content.languageId())));
+        });
+        return SurrogateKeys.headers(keys);
+    }
 }
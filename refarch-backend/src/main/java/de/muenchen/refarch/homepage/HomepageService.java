@@ -1,18 +1,22 @@
 package de.muenchen.refarch.homepage;
 
+import de.muenchen.refarch.edgecache.CachePurgeEvent;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
 import de.muenchen.refarch.homepage.content.HomepageContent;
 import de.muenchen.refarch.homepage.content.HomepageContentRepository;
 import de.muenchen.refarch.homepage.content.dto.HomepageContentRequestDTO;
 import de.muenchen.refarch.homepage.content.dto.HomepageContentResponseDTO;
 import de.muenchen.refarch.homepage.dto.HomepageRequestDTO;
 import de.muenchen.refarch.homepage.dto.HomepageResponseDTO;
-import de.muenchen.refarch.language.Language;
 import de.muenchen.refarch.language.LanguageService;
+import de.muenchen.refarch.language.dto.LanguageResponseDTO;
 import de.muenchen.refarch.link.Link;
 import de.muenchen.refarch.link.LinkService;
+import de.muenchen.refarch.publishedcontent.PublishedContentService;
 import de.muenchen.refarch.security.Authorities;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +38,8 @@ public class HomepageService {
     private final HomepageContentRepository homepageContentRepository;
     private final LinkService linkService;
     private final LanguageService languageService;
+    private final PublishedContentService publishedContentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PreAuthorize(Authorities.HOMEPAGE_READ)
     @Transactional(readOnly = true)
@@ -53,21 +59,25 @@ public class HomepageService {
 
     @PreAuthorize(Authorities.HOMEPAGE_WRITE)
     public HomepageResponseDTO create(final HomepageRequestDTO requestDTO) {
-        final Link link = linkService.getById(requestDTO.linkId());
+        final Link link = linkService.getReference(linkService.findById(requestDTO.linkId()));
         final Homepage homepage = new Homepage();
         homepage.setLink(link);
         homepage.setThumbnail(requestDTO.thumbnail());
-        return toHomepageResponseDTO(homepageRepository.save(homepage));
+        final HomepageResponseDTO saved = publish(toHomepageResponseDTO(homepageRepository.save(homepage)));
+        purge(saved.id());
+        return saved;
     }
 
     @PreAuthorize(Authorities.HOMEPAGE_WRITE)
     public HomepageResponseDTO update(final UUID id, final HomepageRequestDTO requestDTO) {
         final Homepage homepage = homepageRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(HOMEPAGE_NOT_FOUND + id));
-        final Link link = linkService.getById(requestDTO.linkId());
+        final Link link = linkService.getReference(linkService.findById(requestDTO.linkId()));
         homepage.setLink(link);
         homepage.setThumbnail(requestDTO.thumbnail());
-        return toHomepageResponseDTO(homepageRepository.save(homepage));
+        final HomepageResponseDTO saved = publish(toHomepageResponseDTO(homepageRepository.save(homepage)));
+        purge(id);
+        return saved;
     }
 
     @PreAuthorize(Authorities.HOMEPAGE_WRITE)
@@ -76,6 +86,8 @@ public class HomepageService {
                 .orElseThrow(() -> new EntityNotFoundException(HOMEPAGE_NOT_FOUND + id));
         homepageContentRepository.deleteAll(homepage.getContents());
         homepageRepository.delete(homepage);
+        publishedContentService.removeHomepage(id);
+        purge(id);
     }
 
     @PreAuthorize(Authorities.HOMEPAGE_READ)
@@ -101,20 +113,23 @@ public class HomepageService {
     public HomepageContentResponseDTO createContent(final UUID homepageId, final HomepageContentRequestDTO requestDTO) {
         final Homepage homepage = homepageRepository.findById(homepageId)
                 .orElseThrow(() -> new EntityNotFoundException(HOMEPAGE_NOT_FOUND + homepageId));
-        final Language language = languageService.getLanguageById(requestDTO.languageId());
+        final LanguageResponseDTO language = languageService.findById(requestDTO.languageId());
 
-        if (homepageContentRepository.existsByHomepageIdAndLanguageId(homepageId, language.getId())) {
+        if (homepageContentRepository.existsByHomepageIdAndLanguageId(homepageId, language.id())) {
             throw new IllegalStateException(
-                    String.format(CONTENT_EXISTS, homepageId, language.getAbbreviation()));
+                    String.format(CONTENT_EXISTS, homepageId, language.abbreviation()));
         }
 
         final HomepageContent content = new HomepageContent();
         content.setHomepage(homepage);
-        content.setLanguage(language);
+        content.setLanguage(languageService.getReference(language));
         updateContentFields(content, requestDTO);
         homepage.addContent(content);
 
-        return toHomepageContentResponseDTO(homepageContentRepository.save(content));
+        final HomepageContentResponseDTO saved = toHomepageContentResponseDTO(homepageContentRepository.save(content));
+        publish(toHomepageResponseDTO(homepage));
+        purge(homepageId);
+        return saved;
     }
 
     @PreAuthorize(Authorities.HOMEPAGE_WRITE)
@@ -125,7 +140,10 @@ public class HomepageService {
                         String.format(CONTENT_NOT_FOUND, homepageId, languageId)));
 
         updateContentFields(content, requestDTO);
-        return toHomepageContentResponseDTO(homepageContentRepository.save(content));
+        final HomepageContentResponseDTO saved = toHomepageContentResponseDTO(homepageContentRepository.save(content));
+        publish(toHomepageResponseDTO(content.getHomepage()));
+        purge(homepageId);
+        return saved;
     }
 
     @PreAuthorize(Authorities.HOMEPAGE_WRITE)
@@ -138,12 +156,36 @@ public class HomepageService {
 
         homepage.removeContent(content);
         homepageContentRepository.delete(content);
+        publish(toHomepageResponseDTO(homepage));
+        purge(homepageId);
+    }
+
+    /**
+     * Rebuilds the published content read model for all homepages. Called by
+     * {@code PublishedContentInitializer} on startup.
+     */
+    public void rebuildPublishedContent() {
+        publishedContentService.clearHomepages();
+        homepageRepository.findAll().forEach(homepage -> publish(toHomepageResponseDTO(homepage)));
+    }
+
+    private HomepageResponseDTO publish(final HomepageResponseDTO homepage) {
+        publishedContentService.publishHomepage(homepage);
+        return homepage;
+    }
+
+    /**
+     * Purges the responses of the homepage and all homepage listings from the caching proxy once the
+     * write is committed.
+     */
+    private void purge(final UUID id) {
+        eventPublisher.publishEvent(CachePurgeEvent.of(SurrogateKeys.homepage(id), SurrogateKeys.HOMEPAGES));
     }
 
     private HomepageResponseDTO toHomepageResponseDTO(final Homepage homepage) {
         return new HomepageResponseDTO(
                 homepage.getId(),
-                homepage.getLink().getId(),
+                homepage.getLinkId(),
                 homepage.getThumbnail(),
                 homepage.getContents().stream()
                         .map(this::toHomepageContentResponseDTO)
@@ -155,8 +197,8 @@ public class HomepageService {
     private HomepageContentResponseDTO toHomepageContentResponseDTO(final HomepageContent content) {
         return new HomepageContentResponseDTO(
                 content.getId(),
-                content.getHomepage().getId(),
-                content.getLanguage().getId(),
+                content.getHomepageId(),
+                content.getLanguageId(),
                 content.getWelcomeMessage(),
                 content.getWelcomeMessageExtended(),
                 content.getExploreOurWork(),
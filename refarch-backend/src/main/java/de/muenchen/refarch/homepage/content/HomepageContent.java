@@ -1,6 +1,7 @@
 package de.muenchen.refarch.homepage.content;
 
 import de.muenchen.refarch.common.EntityCopyUtils;
+import de.muenchen.refarch.common.UuidV7Generator;
 import de.muenchen.refarch.homepage.Homepage;
 import de.muenchen.refarch.language.Language;
 import jakarta.persistence.*;
@@ -10,8 +11,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
 @Table(
@@ -25,8 +28,9 @@ import java.time.LocalDateTime;
 public class HomepageContent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private java.util.UUID id;
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "homepage_id", nullable = false)
@@ -80,4 +84,18 @@ public class HomepageContent {
     public Homepage getHomepage() {
         return EntityCopyUtils.copyHomepage(homepage);
     }
+
+    /**
+     * Returns the homepage id without copying or initializing the homepage.
+     */
+    public UUID getHomepageId() {
+        return homepage == null ? null : homepage.getId();
+    }
+
+    /**
+     * Returns the language id without copying or initializing the language.
+     */
+    public UUID getLanguageId() {
+        return language == null ? null : language.getId();
+    }
 }
@@ -1,9 +1,16 @@
 package de.muenchen.refarch.language;
 
+import de.muenchen.refarch.configuration.CacheConfiguration;
+import de.muenchen.refarch.edgecache.CachePurgeEvent;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
 import de.muenchen.refarch.language.dto.LanguageRequestDTO;
+import de.muenchen.refarch.language.dto.LanguageResponseDTO;
 import de.muenchen.refarch.security.Authorities;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,7 +21,10 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 public class LanguageService {
+    private static final String LANGUAGE_NOT_FOUND = "Language not found with id: ";
+
     private final LanguageRepository languageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PreAuthorize(Authorities.LANGUAGE_READ)
     @Transactional(readOnly = true)
@@ -26,7 +36,23 @@ public class LanguageService {
     @Transactional(readOnly = true)
     public Language getLanguageById(final UUID id) {
         return languageRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Language not found with id: " + id));
+                .orElseThrow(() -> new EntityNotFoundException(LANGUAGE_NOT_FOUND + id));
+    }
+
+    @PreAuthorize(Authorities.LANGUAGE_READ)
+    @Transactional(readOnly = true)
+    @Cacheable(CacheConfiguration.LANGUAGES)
+    public LanguageResponseDTO findById(final UUID id) {
+        return languageRepository.findById(id)
+                .map(this::mapToResponseDTO)
+                .orElseThrow(() -> new EntityNotFoundException(LANGUAGE_NOT_FOUND + id));
+    }
+
+    /**
+     * Returns an unloaded reference to the language for use as an association of another entity.
+     */
+    public Language getReference(final LanguageResponseDTO language) {
+        return languageRepository.getReferenceById(language.id());
     }
 
     @PreAuthorize(Authorities.LANGUAGE_WRITE)
@@ -47,8 +73,10 @@ public class LanguageService {
 
     @PreAuthorize(Authorities.LANGUAGE_WRITE)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.LANGUAGES, key = "#id")
     public Language updateLanguage(final UUID id, final LanguageRequestDTO request) {
-        final Language language = getLanguageById(id);
+        final Language language = languageRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(LANGUAGE_NOT_FOUND + id));
 
         if (!language.getAbbreviation().equals(request.abbreviation()) &&
                 languageRepository.existsByAbbreviation(request.abbreviation())) {
@@ -60,14 +88,35 @@ public class LanguageService {
         language.setFontAwesomeIcon(request.fontAwesomeIcon());
         language.setMdiIcon(request.mdiIcon());
 
-        return languageRepository.save(language);
+        final Language saved = languageRepository.save(language);
+        purge(id);
+        return saved;
     }
 
     @PreAuthorize(Authorities.LANGUAGE_WRITE)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.LANGUAGES, key = "#id")
     public void deleteLanguage(final UUID id) {
         final Language language = languageRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Language not found with id: " + id));
+                .orElseThrow(() -> new EntityNotFoundException(LANGUAGE_NOT_FOUND + id));
         languageRepository.delete(language);
+        purge(id);
+    }
+
+    /**
+     * Purges all responses with content in the language from the caching proxy once the write is
+     * committed. New languages have no content yet, so nothing is purged on creation.
+     */
+    private void purge(final UUID id) {
+        eventPublisher.publishEvent(CachePurgeEvent.of(SurrogateKeys.language(id)));
+    }
+
+    private LanguageResponseDTO mapToResponseDTO(final Language language) {
+        return new LanguageResponseDTO(
+                language.getId(),
+                language.getName(),
+                language.getAbbreviation(),
+                language.getFontAwesomeIcon(),
+                language.getMdiIcon());
     }
 }
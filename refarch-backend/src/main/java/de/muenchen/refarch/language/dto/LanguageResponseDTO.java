@@ -0,0 +1,14 @@
+package de.muenchen.refarch.language.dto;
+
+import java.util.UUID;
+
+/**
+ * DTO for returning language data.
+ */
+public record LanguageResponseDTO(
+        UUID id,
+        String name,
+        String abbreviation,
+        String fontAwesomeIcon,
+        String mdiIcon) {
+}
@@ -1,9 +1,11 @@
 package de.muenchen.refarch.link;
 
+import de.muenchen.refarch.edgecache.SurrogateKeys;
 import de.muenchen.refarch.link.dto.LinkRequestDTO;
 import de.muenchen.refarch.link.dto.LinkResponseDTO;
 import jakarta.validation.Valid;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -12,21 +14,27 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Tags the link listings with {@link SurrogateKeys#LINKS}, which is purged on every link change.
+ */
 @RestController
 @RequestMapping("/links")
 @RequiredArgsConstructor
 public class LinkController {
 
+    private static final HttpHeaders LINKS_KEYS = HttpHeaders.readOnlyHttpHeaders(
+            SurrogateKeys.headers(List.of(SurrogateKeys.LINKS)));
+
     private final LinkService linkService;
 
     @GetMapping("/internal")
     public ResponseEntity<List<LinkResponseDTO>> getInternalLinks() {
-        return ResponseEntity.ok(linkService.getInternalLinks());
+        return ResponseEntity.ok().headers(LINKS_KEYS).body(linkService.getInternalLinks());
     }
 
     @GetMapping
     public ResponseEntity<List<LinkResponseDTO>> getAllLinks() {
-        return ResponseEntity.ok(linkService.getAllLinks());
+        return ResponseEntity.ok().headers(LINKS_KEYS).body(linkService.getAllLinks());
     }
 
     @PostMapping
@@ -1,10 +1,16 @@
 package de.muenchen.refarch.link;
 
+import de.muenchen.refarch.configuration.CacheConfiguration;
+import de.muenchen.refarch.edgecache.CachePurgeEvent;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
 import de.muenchen.refarch.link.dto.LinkRequestDTO;
 import de.muenchen.refarch.link.dto.LinkResponseDTO;
 import de.muenchen.refarch.security.Authorities;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,8 +21,10 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 public class LinkService {
+    private static final String LINK_NOT_FOUND = "Link not found with id: ";
 
     private final LinkRepository linkRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PreAuthorize(Authorities.LINK_READ)
     @Transactional(readOnly = true)
@@ -28,9 +36,18 @@ public class LinkService {
 
     @PreAuthorize(Authorities.LINK_READ)
     @Transactional(readOnly = true)
-    public Link getById(final UUID id) {
+    @Cacheable(CacheConfiguration.LINKS)
+    public LinkResponseDTO findById(final UUID id) {
         return linkRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Link not found with id: " + id));
+                .map(this::mapToResponseDTO)
+                .orElseThrow(() -> new EntityNotFoundException(LINK_NOT_FOUND + id));
+    }
+
+    /**
+     * Returns an unloaded reference to the link for use as an association of another entity.
+     */
+    public Link getReference(final LinkResponseDTO link) {
+        return linkRepository.getReferenceById(link.id());
     }
 
     @PreAuthorize(Authorities.LINK_WRITE)
@@ -44,13 +61,17 @@ public class LinkService {
         link.setMdiIcon(request.mdiIcon());
         link.setType(request.type());
 
-        return mapToResponseDTO(linkRepository.save(link));
+        final LinkResponseDTO saved = mapToResponseDTO(linkRepository.save(link));
+        eventPublisher.publishEvent(CachePurgeEvent.of(SurrogateKeys.LINKS));
+        return saved;
     }
 
     @PreAuthorize(Authorities.LINK_WRITE)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.LINKS, key = "#id")
     public LinkResponseDTO updateLink(final UUID id, final LinkRequestDTO request) {
-        final Link link = getById(id);
+        final Link link = linkRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(LINK_NOT_FOUND + id));
         link.setName(request.name());
         link.setUrl(request.link());
         link.setScope(request.scope());
@@ -58,16 +79,20 @@ public class LinkService {
         link.setMdiIcon(request.mdiIcon());
         link.setType(request.type());
 
-        return mapToResponseDTO(linkRepository.save(link));
+        final LinkResponseDTO saved = mapToResponseDTO(linkRepository.save(link));
+        purge(id);
+        return saved;
     }
 
     @PreAuthorize(Authorities.LINK_WRITE)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.LINKS, key = "#id")
     public void deleteLink(final UUID id) {
         if (!linkRepository.existsById(id)) {
-            throw new EntityNotFoundException("Link not found with id: " + id);
+            throw new EntityNotFoundException(LINK_NOT_FOUND + id);
         }
         linkRepository.deleteById(id);
+        purge(id);
     }
 
     @PreAuthorize(Authorities.LINK_READ)
@@ -78,6 +103,14 @@ public class LinkService {
                 .toList();
     }
 
+    /**
+     * Purges the responses of the link, of everything pointing to it and of all link listings from the
+     * caching proxy once the write is committed.
+     */
+    private void purge(final UUID id) {
+        eventPublisher.publishEvent(CachePurgeEvent.of(SurrogateKeys.link(id), SurrogateKeys.LINKS));
+    }
+
     private LinkResponseDTO mapToResponseDTO(final Link link) {
         return new LinkResponseDTO(
                 link.getId(),
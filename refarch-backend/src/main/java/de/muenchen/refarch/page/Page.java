@@ -1,14 +1,17 @@
 package de.muenchen.refarch.page;
 
 import de.muenchen.refarch.common.EntityCopyUtils;
+import de.muenchen.refarch.common.UuidV7Generator;
 import de.muenchen.refarch.link.Link;
 import de.muenchen.refarch.page.content.PageContent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -25,7 +28,8 @@ import java.util.UUID;
 public class Page {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -42,6 +46,15 @@ public class Page {
     @Column(name = "published")
     private boolean published = false;
 
+    /**
+     * Maintained by {@code CommentService} with atomic updates and corrected by
+     * {@code CommentCountReconciler}, never written through the entity.
+     */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Setter(AccessLevel.NONE)
+    private long commentCount;
+
     @OneToMany(mappedBy = "page", cascade = CascadeType.ALL, orphanRemoval = true)
     @Getter(AccessLevel.NONE)
     private Set<PageContent> contents = new HashSet<>();
@@ -58,9 +71,15 @@ public class Page {
         return EntityCopyUtils.copyLink(link);
     }
 
+    /**
+     * Returns the link id without copying or initializing the link.
+     */
+    public UUID getLinkId() {
+        return link == null ? null : link.getId();
+    }
+
     public Set<PageContent> getContents() {
-        return contents == null ? Collections.emptySet()
-                : Collections.unmodifiableSet(new HashSet<>(contents));
+        return contents == null ? Collections.emptySet() : Collections.unmodifiableSet(contents);
     }
 
     @Override
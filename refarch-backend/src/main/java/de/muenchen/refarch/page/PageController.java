@@ -4,15 +4,26 @@ import de.muenchen.refarch.page.dto.PageRequestDTO;
 import de.muenchen.refarch.page.dto.PageResponseDTO;
 import de.muenchen.refarch.page.content.dto.PageContentRequestDTO;
 import de.muenchen.refarch.page.content.dto.PageContentResponseDTO;
+import de.muenchen.refarch.common.CursorPage;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
+import de.muenchen.refarch.link.LinkScope;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Tags all read responses with {@link SurrogateKeys}, so a caching proxy can purge them when the
+ * pages, their links or languages change.
+ */
 @RestController
 @RequestMapping("/pages")
 @RequiredArgsConstructor
@@ -21,12 +32,25 @@ public class PageController {
 
     @GetMapping
     public ResponseEntity<List<PageResponseDTO>> getAllPages() {
-        return ResponseEntity.ok(pageService.findAll());
+        final List<PageResponseDTO> pages = pageService.findAll();
+        return ResponseEntity.ok().headers(surrogateKeys(pages, SurrogateKeys.PAGES)).body(pages);
+    }
+
+    @GetMapping("/paged")
+    public ResponseEntity<CursorPage<PageResponseDTO>> getPagesPaged(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size,
+            @RequestParam(required = false) final Boolean published,
+            @RequestParam(required = false) final UUID languageId,
+            @RequestParam(required = false) final LinkScope scope) {
+        final CursorPage<PageResponseDTO> pages = pageService.findPage(cursor, size, published, languageId, scope);
+        return ResponseEntity.ok().headers(surrogateKeys(pages.items(), SurrogateKeys.PAGES)).body(pages);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<PageResponseDTO> getPageById(@PathVariable final UUID id) {
-        return ResponseEntity.ok(pageService.findById(id));
+        final PageResponseDTO page = pageService.findById(id);
+        return ResponseEntity.ok().headers(surrogateKeys(List.of(page), SurrogateKeys.page(id))).body(page);
     }
 
     @PostMapping
@@ -49,14 +73,20 @@ public class PageController {
 
     @GetMapping("/{pageId}/content")
     public ResponseEntity<List<PageContentResponseDTO>> getAllPageContent(@PathVariable final UUID pageId) {
-        return ResponseEntity.ok(pageService.findAllContentByPage(pageId));
+        final List<PageContentResponseDTO> contents = pageService.findAllContentByPage(pageId);
+        final Set<String> keys = new LinkedHashSet<>();
+        keys.add(SurrogateKeys.page(pageId));
+        contents.forEach(content -> keys.add(SurrogateKeys.language(content.languageId())));
+        return ResponseEntity.ok().headers(SurrogateKeys.headers(keys)).body(contents);
     }
 
     @GetMapping("/{pageId}/content/{languageId}")
     public ResponseEntity<PageContentResponseDTO> getPageContent(
             @PathVariable final UUID pageId,
             @PathVariable final UUID languageId) {
-        return ResponseEntity.ok(pageService.findContentByPageAndLanguage(pageId, languageId));
+        return ResponseEntity.ok()
+                .headers(SurrogateKeys.headers(List.of(SurrogateKeys.page(pageId), SurrogateKeys.language(languageId))))
+                .body(pageService.findContentByPageAndLanguage(pageId, languageId));
     }
 
     @PostMapping("/{pageId}/content")
@@ -93,4 +123,19 @@ public class PageController {
         pageService.updatePublished(id, false);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Returns the given key plus the keys of the links and languages the pages depend on.
+     */
+    private static HttpHeaders surrogateKeys(final Collection<PageResponseDTO> pages, final String key) {
+        final Set<String> keys = new LinkedHashSet<>();
+        keys.add(key);
+        pages.forEach(page -> {
+            if (page.linkId() != null) {
+                keys.add(SurrogateKeys.link(page.linkId()));
+            }
+            page.contents().forEach(content -> keys.add(SurrogateKeys.language(content.languageId())));
+        });
+        return SurrogateKeys.headers(keys);
+    }
 }
@@ -1,8 +1,14 @@
 package de.muenchen.refarch.page;
 
-import de.muenchen.refarch.language.Language;
+import de.muenchen.refarch.common.CursorPage;
+import de.muenchen.refarch.common.KeysetCursor;
+import de.muenchen.refarch.edgecache.CachePurgeEvent;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
 import de.muenchen.refarch.language.LanguageService;
+import de.muenchen.refarch.language.dto.LanguageResponseDTO;
 import de.muenchen.refarch.link.Link;
+import de.muenchen.refarch.link.LinkScope;
 import de.muenchen.refarch.link.LinkService;
 import de.muenchen.refarch.page.content.PageContent;
 import de.muenchen.refarch.page.content.PageContentRepository;
@@ -10,9 +16,12 @@ import de.muenchen.refarch.page.dto.PageRequestDTO;
 import de.muenchen.refarch.page.dto.PageResponseDTO;
 import de.muenchen.refarch.page.content.dto.PageContentRequestDTO;
 import de.muenchen.refarch.page.content.dto.PageContentResponseDTO;
+import de.muenchen.refarch.publishedcontent.PublishedContentService;
 import de.muenchen.refarch.security.Authorities;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +32,7 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@SuppressWarnings("PMD.CouplingBetweenObjects")
 public class PageService {
     private static final String PAGE_NOT_FOUND = "Page not found with id: ";
     private static final String CONTENT_NOT_FOUND = "Content not found for page %s and language %s";
@@ -32,19 +42,50 @@ public class PageService {
     private final PageContentRepository pageContentRepository;
     private final LinkService linkService;
     private final LanguageService languageService;
+    private final GlobalSettingsService globalSettingsService;
+    private final PublishedContentService publishedContentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PreAuthorize(Authorities.PAGE_READ)
     @Transactional(readOnly = true)
     public List<PageResponseDTO> findAll() {
-        return pageRepository.findAll().stream()
+        return pageRepository.findAllWithContents().stream()
                 .map(this::mapToResponseDTO)
                 .toList();
     }
 
+    /**
+     * Returns one slice of pages, newest first, using keyset pagination on {@code (createdAt, id)}.
+     *
+     * @param cursor token of the previous slice, or null for the first slice
+     * @param size requested slice size, capped at {@code GlobalSettings.maxItemsPerPage}
+     * @param published only pages with this published flag, or null for all
+     * @param languageId only pages with content in this language, or null for all
+     * @param scope only pages whose link has this scope, or null for all
+     * @return the slice and the cursor of the following one
+     */
+    @PreAuthorize(Authorities.PAGE_READ)
+    @Transactional(readOnly = true)
+    public CursorPage<PageResponseDTO> findPage(final String cursor, final Integer size,
+            final Boolean published, final UUID languageId, final LinkScope scope) {
+        final KeysetCursor after = KeysetCursor.decode(cursor);
+        final int pageSize = CursorPage.effectiveSize(size, globalSettingsService.getCurrentSettings().maxItemsPerPage());
+
+        final List<UUID> ids = pageRepository.findIdsByKeyset(published, scope, languageId,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                Limit.of(pageSize + 1));
+        final List<PageResponseDTO> pages = ids.isEmpty() ? List.of()
+                : pageRepository.findAllWithContentsByIdIn(ids).stream()
+                        .map(this::mapToResponseDTO)
+                        .toList();
+        return CursorPage.slice(pages, pageSize, page -> new KeysetCursor(page.createdAt(), page.id()));
+    }
+
     @PreAuthorize(Authorities.PAGE_READ)
     @Transactional(readOnly = true)
     public PageResponseDTO findById(final UUID id) {
-        return pageRepository.findById(id)
+        return pageRepository.findByIdWithContents(id)
                 .map(this::mapToResponseDTO)
                 .orElseThrow(() -> new EntityNotFoundException(PAGE_NOT_FOUND + id));
     }
@@ -52,7 +93,7 @@ public class PageService {
     @PreAuthorize(Authorities.PAGE_WRITE)
     @Transactional
     public PageResponseDTO create(final PageRequestDTO request) {
-        final Link link = linkService.getById(request.linkId());
+        final Link link = linkService.getReference(linkService.findById(request.linkId()));
 
         final Page page = new Page();
         page.setLink(link);
@@ -60,7 +101,9 @@ public class PageService {
         page.setCommentsEnabled(request.commentsEnabled());
         page.setPublished(request.published());
 
-        return mapToResponseDTO(pageRepository.save(page));
+        final PageResponseDTO saved = publish(mapToResponseDTO(pageRepository.save(page)));
+        purge(saved.id());
+        return saved;
     }
 
     @PreAuthorize(Authorities.PAGE_WRITE)
@@ -68,14 +111,16 @@ public class PageService {
     public PageResponseDTO update(final UUID id, final PageRequestDTO request) {
         final Page existingPage = pageRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(PAGE_NOT_FOUND + id));
-        final Link link = linkService.getById(request.linkId());
+        final Link link = linkService.getReference(linkService.findById(request.linkId()));
 
         existingPage.setLink(link);
         existingPage.setThumbnail(request.thumbnail());
         existingPage.setCommentsEnabled(request.commentsEnabled());
         existingPage.setPublished(request.published());
 
-        return mapToResponseDTO(pageRepository.save(existingPage));
+        final PageResponseDTO saved = publish(mapToResponseDTO(pageRepository.save(existingPage)));
+        purge(id);
+        return saved;
     }
 
     @PreAuthorize(Authorities.PAGE_WRITE)
@@ -85,12 +130,14 @@ public class PageService {
                 .orElseThrow(() -> new EntityNotFoundException(PAGE_NOT_FOUND + id));
         pageContentRepository.deleteAll(page.getContents());
         pageRepository.delete(page);
+        publishedContentService.removePage(id);
+        purge(id);
     }
 
     @PreAuthorize(Authorities.PAGE_READ)
     @Transactional(readOnly = true)
     public List<PageContentResponseDTO> findAllContentByPage(final UUID pageId) {
-        final Page page = pageRepository.findById(pageId)
+        final Page page = pageRepository.findByIdWithContents(pageId)
                 .orElseThrow(() -> new EntityNotFoundException(PAGE_NOT_FOUND + pageId));
         return page.getContents().stream()
                 .map(this::mapToContentResponseDTO)
@@ -102,7 +149,7 @@ public class PageService {
     public PageContentResponseDTO findContentByPageAndLanguage(final UUID pageId, final UUID languageId) {
         pageRepository.findById(pageId)
                 .orElseThrow(() -> new EntityNotFoundException(PAGE_NOT_FOUND + pageId));
-        languageService.getLanguageById(languageId); // This will throw if language doesn't exist
+        languageService.findById(languageId); // This will throw if language doesn't exist
         return pageContentRepository.findByPageIdAndLanguageId(pageId, languageId)
                 .map(this::mapToContentResponseDTO)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -114,31 +161,34 @@ public class PageService {
     public PageContentResponseDTO createContent(final UUID pageId, final PageContentRequestDTO request) {
         final Page page = pageRepository.findById(pageId)
                 .orElseThrow(() -> new EntityNotFoundException(PAGE_NOT_FOUND + pageId));
-        final Language language = languageService.getLanguageById(request.languageId());
+        final LanguageResponseDTO language = languageService.findById(request.languageId());
 
-        if (pageContentRepository.existsByPageIdAndLanguageId(pageId, language.getId())) {
+        if (pageContentRepository.existsByPageIdAndLanguageId(pageId, language.id())) {
             throw new IllegalStateException(
-                    String.format(CONTENT_EXISTS, pageId, language.getAbbreviation()));
+                    String.format(CONTENT_EXISTS, pageId, language.abbreviation()));
         }
 
         final PageContent content = new PageContent();
         content.setPage(page);
-        content.setLanguage(language);
+        content.setLanguage(languageService.getReference(language));
         content.setTitle(request.title());
         content.setContent(request.content());
         content.setShortDescription(request.shortDescription());
         content.setKeywords(request.keywords());
 
         page.addContent(content);
-        return mapToContentResponseDTO(pageContentRepository.save(content));
+        final PageContentResponseDTO saved = mapToContentResponseDTO(pageContentRepository.save(content));
+        publish(mapToResponseDTO(page));
+        purge(pageId);
+        return saved;
     }
 
     @PreAuthorize(Authorities.PAGE_WRITE)
     @Transactional
     public PageContentResponseDTO updateContent(final UUID pageId, final UUID languageId, final PageContentRequestDTO request) {
-        pageRepository.findById(pageId)
+        final Page page = pageRepository.findById(pageId)
                 .orElseThrow(() -> new EntityNotFoundException(PAGE_NOT_FOUND + pageId));
-        languageService.getLanguageById(languageId); // This will throw if language doesn't exist
+        languageService.findById(languageId); // This will throw if language doesn't exist
         final PageContent existingContent = pageContentRepository.findByPageIdAndLanguageId(pageId, languageId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         String.format(CONTENT_NOT_FOUND, pageId, languageId)));
@@ -148,7 +198,10 @@ public class PageService {
         existingContent.setShortDescription(request.shortDescription());
         existingContent.setKeywords(request.keywords());
 
-        return mapToContentResponseDTO(pageContentRepository.save(existingContent));
+        final PageContentResponseDTO saved = mapToContentResponseDTO(pageContentRepository.save(existingContent));
+        publish(mapToResponseDTO(page));
+        purge(pageId);
+        return saved;
     }
 
     @PreAuthorize(Authorities.PAGE_WRITE)
@@ -162,6 +215,8 @@ public class PageService {
 
         page.removeContent(content);
         pageContentRepository.delete(content);
+        publish(mapToResponseDTO(page));
+        purge(pageId);
     }
 
     @PreAuthorize(Authorities.PAGE_WRITE)
@@ -170,16 +225,41 @@ public class PageService {
         final Page page = pageRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(PAGE_NOT_FOUND + id));
         page.setPublished(published);
-        pageRepository.save(page);
+        publish(mapToResponseDTO(pageRepository.save(page)));
+        purge(id);
+    }
+
+    /**
+     * Rebuilds the published content read model for all pages, e.g. for pages written before the read
+     * model existed. Called by {@code PublishedContentInitializer} on startup.
+     */
+    @Transactional
+    public void rebuildPublishedContent() {
+        publishedContentService.clearPages();
+        pageRepository.findAllWithContents().forEach(page -> publish(mapToResponseDTO(page)));
+    }
+
+    private PageResponseDTO publish(final PageResponseDTO page) {
+        publishedContentService.publishPage(page);
+        return page;
+    }
+
+    /**
+     * Purges the responses of the page and all page listings from the caching proxy once the write is
+     * committed.
+     */
+    private void purge(final UUID id) {
+        eventPublisher.publishEvent(CachePurgeEvent.of(SurrogateKeys.page(id), SurrogateKeys.PAGES));
     }
 
     private PageResponseDTO mapToResponseDTO(final Page page) {
         return new PageResponseDTO(
                 page.getId(),
-                page.getLink().getId(),
+                page.getLinkId(),
                 page.getThumbnail(),
                 page.isCommentsEnabled(),
                 page.isPublished(),
+                page.getCommentCount(),
                 page.getContents().stream()
                         .map(this::mapToContentResponseDTO)
                         .collect(Collectors.toSet()),
@@ -190,8 +270,8 @@ public class PageService {
     private PageContentResponseDTO mapToContentResponseDTO(final PageContent content) {
         return new PageContentResponseDTO(
                 content.getId(),
-                content.getPage().getId(),
-                content.getLanguage().getId(),
+                content.getPageId(),
+                content.getLanguageId(),
                 content.getTitle(),
                 content.getContent(),
                 content.getShortDescription(),
@@ -1,6 +1,7 @@
 package de.muenchen.refarch.page.content;
 
 import de.muenchen.refarch.common.EntityCopyUtils;
+import de.muenchen.refarch.common.UuidV7Generator;
 import de.muenchen.refarch.language.Language;
 import de.muenchen.refarch.page.Page;
 import jakarta.persistence.*;
@@ -9,6 +10,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -25,7 +27,8 @@ import java.util.UUID;
 public class PageContent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -63,4 +66,18 @@ public class PageContent {
     public Language getLanguage() {
         return EntityCopyUtils.copyLanguage(language);
     }
+
+    /**
+     * Returns the page id without copying or initializing the page.
+     */
+    public UUID getPageId() {
+        return page == null ? null : page.getId();
+    }
+
+    /**
+     * Returns the language id without copying or initializing the language.
+     */
+    public UUID getLanguageId() {
+        return language == null ? null : language.getId();
+    }
 }
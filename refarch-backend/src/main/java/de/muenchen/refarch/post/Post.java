@@ -8,6 +8,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
 @Entity
 @Table(name = "posts")
@@ -39,6 +41,15 @@ public class Post extends BaseEntity implements Serializable {
     @Column(name = "published")
     private boolean published = false;
 
+    /**
+     * Maintained by {@code CommentService} with atomic updates and corrected by
+     * {@code CommentCountReconciler}, never written through the entity.
+     */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Setter(AccessLevel.NONE)
+    private long commentCount;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     @Getter(AccessLevel.NONE)
     private Set<PostContent> contents = new HashSet<>();
@@ -55,6 +66,13 @@ public class Post extends BaseEntity implements Serializable {
         return EntityCopyUtils.copyLink(link);
     }
 
+    /**
+     * Returns the link id without copying or initializing the link.
+     */
+    public UUID getLinkId() {
+        return link == null ? null : link.getId();
+    }
+
     public Set<PostContent> getContents() {
         return contents == null ? Collections.emptySet() : Collections.unmodifiableSet(contents);
     }
@@ -4,15 +4,27 @@ import de.muenchen.refarch.post.dto.PostRequestDTO;
 import de.muenchen.refarch.post.dto.PostResponseDTO;
 import de.muenchen.refarch.post.content.dto.PostContentRequestDTO;
 import de.muenchen.refarch.post.content.dto.PostContentResponseDTO;
+import de.muenchen.refarch.common.CursorPage;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
+import de.muenchen.refarch.link.LinkScope;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Tags all read responses with {@link SurrogateKeys}, so a caching proxy can purge them when the
+ * posts, their links or languages change.
+ */
 @RestController
 @RequestMapping("/posts")
 @RequiredArgsConstructor
@@ -21,12 +33,25 @@ public class PostController {
 
     @GetMapping
     public ResponseEntity<List<PostResponseDTO>> getAllPosts() {
-        return ResponseEntity.ok(postService.findAll());
+        final List<PostResponseDTO> posts = postService.findAll();
+        return ResponseEntity.ok().headers(surrogateKeys(posts, SurrogateKeys.POSTS)).body(posts);
+    }
+
+    @GetMapping("/paged")
+    public ResponseEntity<CursorPage<PostResponseDTO>> getPostsPaged(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size,
+            @RequestParam(required = false) final Boolean published,
+            @RequestParam(required = false) final UUID languageId,
+            @RequestParam(required = false) final LinkScope scope) {
+        final CursorPage<PostResponseDTO> posts = postService.findPage(cursor, size, published, languageId, scope);
+        return ResponseEntity.ok().headers(surrogateKeys(posts.items(), SurrogateKeys.POSTS)).body(posts);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<PostResponseDTO> getPostById(@PathVariable final UUID id) {
-        return ResponseEntity.ok(postService.findById(id));
+        final PostResponseDTO post = postService.findById(id);
+        return ResponseEntity.ok().headers(surrogateKeys(List.of(post), SurrogateKeys.post(id))).body(post);
     }
 
     @PostMapping
@@ -49,14 +74,23 @@ public class PostController {
 
     @GetMapping("/{postId}/content")
     public ResponseEntity<List<PostContentResponseDTO>> getAllPostContent(@PathVariable final UUID postId) {
-        return ResponseEntity.ok(postService.findAllContentByPost(postId));
+        final List<PostContentResponseDTO> contents = postService.findAllContentByPost(postId);
+        final Set<String> keys = new LinkedHashSet<>();
+        keys.add(SurrogateKeys.post(postId));
+        contents.stream()
+                .map(PostContentResponseDTO::language)
+                .filter(Objects::nonNull)
+                .forEach(language -> keys.add(SurrogateKeys.language(language.getId())));
+        return ResponseEntity.ok().headers(SurrogateKeys.headers(keys)).body(contents);
     }
 
     @GetMapping("/{postId}/content/{languageId}")
     public ResponseEntity<PostContentResponseDTO> getPostContent(
             @PathVariable final UUID postId,
             @PathVariable final UUID languageId) {
-        return ResponseEntity.ok(postService.findContentByPostAndLanguage(postId, languageId));
+        return ResponseEntity.ok()
+                .headers(SurrogateKeys.headers(List.of(SurrogateKeys.post(postId), SurrogateKeys.language(languageId))))
+                .body(postService.findContentByPostAndLanguage(postId, languageId));
     }
 
     @PostMapping("/{postId}/content")
@@ -93,4 +127,17 @@ public class PostController {
         postService.updatePublished(id, false);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Returns the given key plus the keys of the links embedded in the posts.
+     */
+    private static HttpHeaders surrogateKeys(final Collection<PostResponseDTO> posts, final String key) {
+        final Set<String> keys = new LinkedHashSet<>();
+        keys.add(key);
+        posts.stream()
+                .map(PostResponseDTO::link)
+                .filter(Objects::nonNull)
+                .forEach(link -> keys.add(SurrogateKeys.link(link.getId())));
+        return SurrogateKeys.headers(keys);
+    }
 }
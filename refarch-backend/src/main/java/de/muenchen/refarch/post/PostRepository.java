@@ -1,10 +1,72 @@
 package de.muenchen.refarch.post;
 
+import de.muenchen.refarch.link.LinkScope;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, UUID> {
     boolean existsByLinkId(UUID linkId);
+
+    /**
+     * Returns the posts following the given keyset position, newest first, with their link fetched.
+     * Filters that are null are ignored, as is the position for the first slice.
+     */
+    @Query(
+        """
+                SELECT p FROM Post p LEFT JOIN FETCH p.link l
+                WHERE (:published IS NULL OR p.published = :published)
+                  AND (:scope IS NULL OR l.scope = :scope)
+                  AND (:languageId IS NULL OR EXISTS (
+                      SELECT 1 FROM PostContent c WHERE c.post = p AND c.language.id = :languageId))
+                  AND (:afterCreatedAt IS NULL OR p.createdAt < :afterCreatedAt
+                      OR (p.createdAt = :afterCreatedAt AND p.id < :afterId))
+                ORDER BY p.createdAt DESC, p.id DESC"""
+    )
+    List<Post> findByKeyset(
+            @Param("published") Boolean published,
+            @Param("scope") LinkScope scope,
+            @Param("languageId") UUID languageId,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Limit limit);
+
+    /**
+     * Adds to the number of comments of a post in a single statement, so concurrent comments are
+     * not lost. The count never drops below zero.
+     *
+     * @return the number of updated rows, 0 if the post does not exist
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE posts SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :id", nativeQuery = true)
+    int addToCommentCount(@Param("id") UUID id, @Param("delta") int delta);
+
+    @Query(value = "SELECT comment_count FROM posts WHERE id = :id", nativeQuery = true)
+    Optional<Long> findCommentCountById(@Param("id") UUID id);
+
+    /**
+     * Sets the comment count of every post whose count differs from its actual number of comments.
+     * A row is only corrected if its count is still the one read together with the comments, so a
+     * comment counted concurrently with this statement is not overwritten by the stale total.
+     *
+     * @return the number of corrected posts
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = """
+                    UPDATE posts t SET comment_count = actual.count
+                    FROM (SELECT p.id, p.comment_count AS seen, count(c.id) AS count
+                          FROM posts p LEFT JOIN comments c ON c.post_id = p.id GROUP BY p.id) actual
+                    WHERE t.id = actual.id AND actual.seen <> actual.count AND t.comment_count = actual.seen""",
+            nativeQuery = true
+    )
+    int reconcileCommentCounts();
 }
@@ -1,8 +1,15 @@
 package de.muenchen.refarch.post;
 
+import de.muenchen.refarch.common.CursorPage;
+import de.muenchen.refarch.common.KeysetCursor;
+import de.muenchen.refarch.edgecache.CachePurgeEvent;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
 import de.muenchen.refarch.language.Language;
 import de.muenchen.refarch.language.LanguageService;
+import de.muenchen.refarch.language.dto.LanguageResponseDTO;
 import de.muenchen.refarch.link.Link;
+import de.muenchen.refarch.link.LinkScope;
 import de.muenchen.refarch.link.LinkService;
 import de.muenchen.refarch.post.content.PostContent;
 import de.muenchen.refarch.post.content.PostContentRepository;
@@ -10,9 +17,12 @@ import de.muenchen.refarch.post.dto.PostRequestDTO;
 import de.muenchen.refarch.post.dto.PostResponseDTO;
 import de.muenchen.refarch.post.content.dto.PostContentRequestDTO;
 import de.muenchen.refarch.post.content.dto.PostContentResponseDTO;
+import de.muenchen.refarch.publishedcontent.PublishedContentService;
 import de.muenchen.refarch.security.Authorities;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +33,7 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@SuppressWarnings("PMD.CouplingBetweenObjects")
 public class PostService {
     private static final String POST_NOT_FOUND = "Post not found with id: ";
     private static final String CONTENT_NOT_FOUND = "Content not found for post %s and language %s";
@@ -32,6 +43,9 @@ public class PostService {
     private final PostContentRepository postContentRepository;
     private final LinkService linkService;
     private final LanguageService languageService;
+    private final GlobalSettingsService globalSettingsService;
+    private final PublishedContentService publishedContentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PreAuthorize(Authorities.POST_READ)
     @Transactional(readOnly = true)
@@ -41,6 +55,32 @@ public class PostService {
                 .toList();
     }
 
+    /**
+     * Returns one slice of posts, newest first, using keyset pagination on {@code (createdAt, id)}.
+     *
+     * @param cursor token of the previous slice, or null for the first slice
+     * @param size requested slice size, capped at {@code GlobalSettings.maxItemsPerPage}
+     * @param published only posts with this published flag, or null for all
+     * @param languageId only posts with content in this language, or null for all
+     * @param scope only posts whose link has this scope, or null for all
+     * @return the slice and the cursor of the following one
+     */
+    @PreAuthorize(Authorities.POST_READ)
+    @Transactional(readOnly = true)
+    public CursorPage<PostResponseDTO> findPage(final String cursor, final Integer size,
+            final Boolean published, final UUID languageId, final LinkScope scope) {
+        final KeysetCursor after = KeysetCursor.decode(cursor);
+        final int pageSize = CursorPage.effectiveSize(size, globalSettingsService.getCurrentSettings().maxItemsPerPage());
+
+        final List<PostResponseDTO> posts = postRepository.findByKeyset(published, scope, languageId,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                Limit.of(pageSize + 1)).stream()
+                .map(this::mapToResponseDTO)
+                .toList();
+        return CursorPage.slice(posts, pageSize, post -> new KeysetCursor(post.createdAt(), post.id()));
+    }
+
     @PreAuthorize(Authorities.POST_READ)
     @Transactional(readOnly = true)
     public PostResponseDTO findById(final UUID id) {
@@ -52,7 +92,7 @@ public class PostService {
     @PreAuthorize(Authorities.POST_WRITE)
     @Transactional
     public PostResponseDTO create(final PostRequestDTO request) {
-        final Link link = linkService.getById(request.linkId());
+        final Link link = linkService.getReference(linkService.findById(request.linkId()));
 
         final Post post = new Post();
         post.setLink(link);
@@ -60,7 +100,10 @@ public class PostService {
         post.setCommentsEnabled(request.commentsEnabled());
         post.setPublished(request.published());
 
-        return mapToResponseDTO(postRepository.save(post));
+        final Post saved = postRepository.save(post);
+        publish(saved);
+        purge(saved.getId());
+        return mapToResponseDTO(saved);
     }
 
     @PreAuthorize(Authorities.POST_WRITE)
@@ -68,14 +111,17 @@ public class PostService {
     public PostResponseDTO update(final UUID id, final PostRequestDTO request) {
         final Post existingPost = postRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(POST_NOT_FOUND + id));
-        final Link link = linkService.getById(request.linkId());
+        final Link link = linkService.getReference(linkService.findById(request.linkId()));
 
         existingPost.setLink(link);
         existingPost.setThumbnail(request.thumbnail());
         existingPost.setCommentsEnabled(request.commentsEnabled());
         existingPost.setPublished(request.published());
 
-        return mapToResponseDTO(postRepository.save(existingPost));
+        final Post saved = postRepository.save(existingPost);
+        publish(saved);
+        purge(id);
+        return mapToResponseDTO(saved);
     }
 
     @PreAuthorize(Authorities.POST_WRITE)
@@ -85,6 +131,8 @@ public class PostService {
                 .orElseThrow(() -> new EntityNotFoundException(POST_NOT_FOUND + id));
         postContentRepository.deleteAllByPost(post);
         postRepository.delete(post);
+        publishedContentService.removePost(id);
+        purge(id);
     }
 
     @PreAuthorize(Authorities.POST_READ)
@@ -102,7 +150,7 @@ public class PostService {
     public PostContentResponseDTO findContentByPostAndLanguage(final UUID postId, final UUID languageId) {
         final Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException(POST_NOT_FOUND + postId));
-        final Language language = languageService.getLanguageById(languageId);
+        final Language language = languageService.getReference(languageService.findById(languageId));
 
         return postContentRepository.findByPostAndLanguage(post, language)
                 .map(this::mapToContentResponseDTO)
@@ -115,23 +163,27 @@ public class PostService {
     public PostContentResponseDTO createContent(final UUID postId, final PostContentRequestDTO request) {
         final Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException(POST_NOT_FOUND + postId));
-        final Language language = languageService.getLanguageById(request.languageId());
+        final LanguageResponseDTO language = languageService.findById(request.languageId());
+        final Language languageReference = languageService.getReference(language);
 
-        final Optional<PostContent> existingContent = postContentRepository.findByPostAndLanguage(post, language);
+        final Optional<PostContent> existingContent = postContentRepository.findByPostAndLanguage(post, languageReference);
         if (existingContent.isPresent()) {
             throw new IllegalStateException(
-                    String.format(CONTENT_EXISTS, postId, language.getAbbreviation()));
+                    String.format(CONTENT_EXISTS, postId, language.abbreviation()));
         }
 
         final PostContent content = new PostContent();
         content.setPost(post);
-        content.setLanguage(language);
+        content.setLanguage(languageReference);
         content.setTitle(request.title());
         content.setContent(request.content());
         content.setShortDescription(request.shortDescription());
         content.setKeywords(request.keywords());
 
-        return mapToContentResponseDTO(postContentRepository.save(content));
+        final PostContentResponseDTO saved = mapToContentResponseDTO(postContentRepository.save(content));
+        publish(post);
+        purge(postId);
+        return saved;
     }
 
     @PreAuthorize(Authorities.POST_WRITE)
@@ -139,7 +191,7 @@ public class PostService {
     public PostContentResponseDTO updateContent(final UUID postId, final UUID languageId, final PostContentRequestDTO request) {
         final Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException(POST_NOT_FOUND + postId));
-        final Language language = languageService.getLanguageById(languageId);
+        final Language language = languageService.getReference(languageService.findById(languageId));
 
         final PostContent existingContent = postContentRepository.findByPostAndLanguage(post, language)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -150,7 +202,10 @@ public class PostService {
         existingContent.setShortDescription(request.shortDescription());
         existingContent.setKeywords(request.keywords());
 
-        return mapToContentResponseDTO(postContentRepository.save(existingContent));
+        final PostContentResponseDTO saved = mapToContentResponseDTO(postContentRepository.save(existingContent));
+        publish(post);
+        purge(postId);
+        return saved;
     }
 
     @PreAuthorize(Authorities.POST_WRITE)
@@ -158,13 +213,15 @@ public class PostService {
     public void deleteContent(final UUID postId, final UUID languageId) {
         final Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException(POST_NOT_FOUND + postId));
-        final Language language = languageService.getLanguageById(languageId);
+        final Language language = languageService.getReference(languageService.findById(languageId));
 
         final PostContent content = postContentRepository.findByPostAndLanguage(post, language)
                 .orElseThrow(() -> new EntityNotFoundException(
                         String.format(CONTENT_NOT_FOUND, postId, languageId)));
 
         postContentRepository.delete(content);
+        publish(post);
+        purge(postId);
     }
 
     @PreAuthorize(Authorities.POST_WRITE)
@@ -173,7 +230,32 @@ public class PostService {
         final Post post = postRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(POST_NOT_FOUND + id));
         post.setPublished(published);
-        postRepository.save(post);
+        publish(postRepository.save(post));
+        purge(id);
+    }
+
+    /**
+     * Rebuilds the published content read model for all posts, e.g. for posts written before the read
+     * model existed. Called by {@code PublishedContentInitializer} on startup.
+     */
+    @Transactional
+    public void rebuildPublishedContent() {
+        publishedContentService.clearPosts();
+        postRepository.findAll().forEach(this::publish);
+    }
+
+    private void publish(final Post post) {
+        publishedContentService.publishPost(mapToResponseDTO(post), postContentRepository.findAllByPost(post).stream()
+                .map(this::mapToContentResponseDTO)
+                .toList());
+    }
+
+    /**
+     * Purges the responses of the post and all post listings from the caching proxy once the write is
+     * committed.
+     */
+    private void purge(final UUID id) {
+        eventPublisher.publishEvent(CachePurgeEvent.of(SurrogateKeys.post(id), SurrogateKeys.POSTS));
     }
 
     private PostResponseDTO mapToResponseDTO(final Post post) {
@@ -183,6 +265,7 @@ public class PostService {
                 post.getThumbnail(),
                 post.isCommentsEnabled(),
                 post.isPublished(),
+                post.getCommentCount(),
                 post.getCreatedAt(),
                 post.getUpdatedAt());
     }
@@ -190,7 +273,7 @@ public class PostService {
     private PostContentResponseDTO mapToContentResponseDTO(final PostContent content) {
         return new PostContentResponseDTO(
                 content.getId(),
-                content.getPost().getId(),
+                content.getPostId(),
                 content.getLanguage(),
                 content.getTitle(),
                 content.getContent(),
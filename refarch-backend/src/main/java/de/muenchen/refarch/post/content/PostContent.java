@@ -2,6 +2,7 @@ package de.muenchen.refarch.post.content;
 
 import de.muenchen.refarch.common.BaseEntity;
 import de.muenchen.refarch.common.EntityCopyUtils;
+import de.muenchen.refarch.common.UuidV7Generator;
 import de.muenchen.refarch.language.Language;
 import de.muenchen.refarch.post.Post;
 import jakarta.persistence.*;
@@ -11,6 +12,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -30,7 +32,8 @@ public class PostContent extends BaseEntity implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -70,4 +73,11 @@ public class PostContent extends BaseEntity implements Serializable {
     public Post getPost() {
         return EntityCopyUtils.copyPost(post);
     }
+
+    /**
+     * Returns the post id without copying or initializing the post.
+     */
+    public UUID getPostId() {
+        return post == null ? null : post.getId();
+    }
 }
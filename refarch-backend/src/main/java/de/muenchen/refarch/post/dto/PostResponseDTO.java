@@ -10,6 +10,7 @@ public record PostResponseDTO(
         String thumbnail,
         boolean commentsEnabled,
         boolean published,
+        long commentCount,
         LocalDateTime createdAt,
         LocalDateTime updatedAt) {
 
@@ -0,0 +1,65 @@
+package de.muenchen.refarch.publishedcontent;
+
+import de.muenchen.refarch.common.UuidV7Generator;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Row of the published content read model: the rendered JSON document of one content item in one
+ * language. Rows are written by {@link PublishedContentService} whenever the source content changes
+ * and are never edited directly.
+ */
+@Entity
+@Table(
+        name = "published_content_view",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "content_type", "content_id", "language_id" })
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class PublishedContent {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", length = 16, nullable = false)
+    private PublishedContentType contentType;
+
+    @Column(name = "content_id", nullable = false)
+    private UUID contentId;
+
+    @Column(name = "language_id", nullable = false)
+    private UUID languageId;
+
+    @Column(name = "document", columnDefinition = "TEXT", nullable = false)
+    private String document;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * When the document was written, documents are rewritten on every change of their source
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || (o instanceof PublishedContent other && Objects.equals(id, other.id));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,123 @@
+package de.muenchen.refarch.publishedcontent;
+
+import de.muenchen.refarch.edgecache.SurrogateKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only endpoints for visitors, served from the published content read model. Conditional GETs
+ * are answered from the version of the documents, without loading them. Responses are tagged with
+ * {@link SurrogateKeys}, so a caching proxy can purge them when the content or its language changes.
+ */
+@RestController
+@RequestMapping("/published")
+@RequiredArgsConstructor
+public class PublishedContentController {
+
+    private final PublishedContentService publishedContentService;
+
+    @GetMapping("/pages")
+    public ResponseEntity<String> getPublishedPages(@RequestParam final UUID languageId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size,
+            final WebRequest request) {
+        return documents(PublishedContentType.PAGE, languageId, cursor, size, request);
+    }
+
+    @GetMapping("/pages/{id}/{languageId}")
+    public ResponseEntity<String> getPublishedPage(@PathVariable final UUID id, @PathVariable final UUID languageId,
+            final WebRequest request) {
+        return document(PublishedContentType.PAGE, id, languageId, request);
+    }
+
+    @GetMapping("/posts")
+    public ResponseEntity<String> getPublishedPosts(@RequestParam final UUID languageId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size,
+            final WebRequest request) {
+        return documents(PublishedContentType.POST, languageId, cursor, size, request);
+    }
+
+    @GetMapping("/posts/{id}/{languageId}")
+    public ResponseEntity<String> getPublishedPost(@PathVariable final UUID id, @PathVariable final UUID languageId,
+            final WebRequest request) {
+        return document(PublishedContentType.POST, id, languageId, request);
+    }
+
+    @GetMapping("/homepages")
+    public ResponseEntity<String> getPublishedHomepages(@RequestParam final UUID languageId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size,
+            final WebRequest request) {
+        return documents(PublishedContentType.HOMEPAGE, languageId, cursor, size, request);
+    }
+
+    @GetMapping("/homepages/{id}/{languageId}")
+    public ResponseEntity<String> getPublishedHomepage(@PathVariable final UUID id, @PathVariable final UUID languageId,
+            final WebRequest request) {
+        return document(PublishedContentType.HOMEPAGE, id, languageId, request);
+    }
+
+    private ResponseEntity<String> document(final PublishedContentType contentType, final UUID id, final UUID languageId,
+            final WebRequest request) {
+        final PublishedContentVersion version = publishedContentService.findDocumentVersion(contentType, id, languageId);
+        if (request.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+            // 304 and validators are already set on the response
+            return null;
+        }
+        return json(version, List.of(itemKey(contentType, id), SurrogateKeys.language(languageId)),
+                publishedContentService.findDocument(contentType, id, languageId));
+    }
+
+    private ResponseEntity<String> documents(final PublishedContentType contentType, final UUID languageId,
+            final String cursor, final Integer size, final WebRequest request) {
+        final PublishedContentVersion version = publishedContentService.findDocumentsVersion(contentType, languageId);
+        if (request.checkNotModified(version.eTag())) {
+            return null;
+        }
+        return json(version, List.of(listingKey(contentType), SurrogateKeys.language(languageId)),
+                publishedContentService.findDocuments(contentType, languageId, cursor, size));
+    }
+
+    /**
+     * The version is read before the body, so a change in between costs the client one more
+     * download, but never leaves it with an outdated body.
+     */
+    private static ResponseEntity<String> json(final PublishedContentVersion version, final List<String> surrogateKeys,
+            final String body) {
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .headers(SurrogateKeys.headers(surrogateKeys))
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(version.eTag());
+        if (version.lastModified() != null) {
+            builder.lastModified(version.lastModified());
+        }
+        return builder.body(body);
+    }
+
+    private static String itemKey(final PublishedContentType contentType, final UUID id) {
+        return switch (contentType) {
+        case PAGE -> SurrogateKeys.page(id);
+        case POST -> SurrogateKeys.post(id);
+        case HOMEPAGE -> SurrogateKeys.homepage(id);
+        };
+    }
+
+    private static String listingKey(final PublishedContentType contentType) {
+        return switch (contentType) {
+        case PAGE -> SurrogateKeys.PAGES;
+        case POST -> SurrogateKeys.POSTS;
+        case HOMEPAGE -> SurrogateKeys.HOMEPAGES;
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package de.muenchen.refarch.publishedcontent;
+
+import de.muenchen.refarch.homepage.HomepageService;
+import de.muenchen.refarch.page.PageService;
+import de.muenchen.refarch.post.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Builds the published content read model once the application is ready, if it is still empty, so
+ * content written before the read model existed is served as well.
+ * <p>
+ * The build runs in one transaction under an advisory lock. Replicas starting at the same time skip
+ * it, and a model already kept up to date by the services is never cleared under concurrent writes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PublishedContentInitializer {
+
+    private final PublishedContentService publishedContentService;
+    private final PageService pageService;
+    private final PostService postService;
+    private final HomepageService homepageService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        if (!publishedContentService.lockForRebuild()) {
+            log.info("Published content read model is being built by another instance, skipping");
+            return;
+        }
+        if (!publishedContentService.isEmpty()) {
+            log.debug("Published content read model already exists, skipping rebuild");
+            return;
+        }
+        log.info("Building published content read model...");
+        pageService.rebuildPublishedContent();
+        postService.rebuildPublishedContent();
+        homepageService.rebuildPublishedContent();
+    }
+}
@@ -0,0 +1,109 @@
+package de.muenchen.refarch.publishedcontent;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PublishedContentRepository extends JpaRepository<PublishedContent, UUID> {
+
+    @Query(
+        """
+                SELECT c.document FROM PublishedContent c
+                WHERE c.contentType = :contentType AND c.contentId = :contentId AND c.languageId = :languageId"""
+    )
+    Optional<String> findDocument(
+            PublishedContentType contentType,
+            UUID contentId,
+            UUID languageId);
+
+    @Query(
+        """
+                SELECT c.contentId AS contentId, c.createdAt AS createdAt, c.document AS document
+                FROM PublishedContent c
+                WHERE c.contentType = :contentType AND c.languageId = :languageId
+                  AND (:afterCreatedAt IS NULL OR c.createdAt < :afterCreatedAt
+                      OR (c.createdAt = :afterCreatedAt AND c.contentId < :afterId))
+                ORDER BY c.createdAt DESC, c.contentId DESC"""
+    )
+    List<DocumentRow> findDocuments(
+            PublishedContentType contentType,
+            UUID languageId,
+            LocalDateTime afterCreatedAt,
+            UUID afterId,
+            Limit limit);
+
+    @Query(
+        """
+                SELECT c.id AS id, c.updatedAt AS updatedAt FROM PublishedContent c
+                WHERE c.contentType = :contentType AND c.contentId = :contentId AND c.languageId = :languageId"""
+    )
+    Optional<DocumentVersion> findDocumentVersion(
+            PublishedContentType contentType,
+            UUID contentId,
+            UUID languageId);
+
+    @Query(
+        """
+                SELECT COUNT(c) AS count, MAX(c.updatedAt) AS updatedAt FROM PublishedContent c
+                WHERE c.contentType = :contentType AND c.languageId = :languageId"""
+    )
+    DocumentsVersion findDocumentsVersion(
+            PublishedContentType contentType,
+            UUID languageId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PublishedContent c WHERE c.contentType = :contentType AND c.contentId = :contentId")
+    void deleteByContent(
+            PublishedContentType contentType,
+            UUID contentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PublishedContent c WHERE c.contentType = :contentType")
+    void deleteByContentType(PublishedContentType contentType);
+
+    /**
+     * Takes a PostgreSQL advisory lock until the end of the current transaction, without waiting.
+     *
+     * @param key the lock key
+     * @return true if the lock was taken, false if another transaction holds it
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(long key);
+
+    /**
+     * One document of a listing, with its keyset position
+     */
+    interface DocumentRow {
+        UUID getContentId();
+
+        LocalDateTime getCreatedAt();
+
+        String getDocument();
+    }
+
+    /**
+     * Version of a single document, without the document itself
+     */
+    interface DocumentVersion {
+        UUID getId();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * Version of a listing: every write adds a newer row, every removal changes the count
+     */
+    interface DocumentsVersion {
+        long getCount();
+
+        LocalDateTime getUpdatedAt();
+    }
+}
@@ -0,0 +1,245 @@
+package de.muenchen.refarch.publishedcontent;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.muenchen.refarch.common.CursorPage;
+import de.muenchen.refarch.common.KeysetCursor;
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
+import de.muenchen.refarch.homepage.content.dto.HomepageContentResponseDTO;
+import de.muenchen.refarch.homepage.dto.HomepageResponseDTO;
+import de.muenchen.refarch.page.content.dto.PageContentResponseDTO;
+import de.muenchen.refarch.page.dto.PageResponseDTO;
+import de.muenchen.refarch.post.content.dto.PostContentResponseDTO;
+import de.muenchen.refarch.post.dto.PostResponseDTO;
+import de.muenchen.refarch.publishedcontent.dto.PublishedContentDocument;
+import de.muenchen.refarch.security.Authorities;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains and serves the published content read model. Anonymous reads are answered with the
+ * stored JSON documents, without loading any entities. The write side is called by the owning
+ * services within their own transaction, so the read model never diverges from the source data.
+ */
+@Service
+@RequiredArgsConstructor
+public class PublishedContentService {
+    private static final String CONTENT_NOT_FOUND = "No published %s found with id %s and language %s";
+    private static final String SERIALIZATION_FAILED = "Could not render published %s with id %s";
+    /**
+     * Advisory lock key of {@link #lockForRebuild()}, the ASCII bytes of "pubcview"
+     */
+    private static final long REBUILD_LOCK_KEY = 0x7075_6263_7669_6577L;
+
+    private final PublishedContentRepository publishedContentRepository;
+    private final ObjectMapper objectMapper;
+    private final GlobalSettingsService globalSettingsService;
+
+    @PreAuthorize(Authorities.PUBLISHED_CONTENT_READ)
+    @Transactional(readOnly = true)
+    public String findDocument(final PublishedContentType contentType, final UUID contentId, final UUID languageId) {
+        return publishedContentRepository.findDocument(contentType, contentId, languageId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        String.format(CONTENT_NOT_FOUND, contentType, contentId, languageId)));
+    }
+
+    /**
+     * Returns the version of a published document without loading it, to answer conditional GETs.
+     * The entity tag changes with every rewrite of the document.
+     */
+    @PreAuthorize(Authorities.PUBLISHED_CONTENT_READ)
+    @Transactional(readOnly = true)
+    public PublishedContentVersion findDocumentVersion(final PublishedContentType contentType, final UUID contentId,
+            final UUID languageId) {
+        return publishedContentRepository.findDocumentVersion(contentType, contentId, languageId)
+                .map(version -> {
+                    final Instant updatedAt = toInstant(version.getUpdatedAt());
+                    return new PublishedContentVersion(
+                            eTag(version.getId() + "-" + Long.toHexString(updatedAt.toEpochMilli())), updatedAt);
+                })
+                .orElseThrow(() -> new EntityNotFoundException(
+                        String.format(CONTENT_NOT_FOUND, contentType, contentId, languageId)));
+    }
+
+    /**
+     * Returns the version of a listing of {@link #findDocuments}. It has no modification time, as
+     * removing an item does not leave a newer row behind.
+     */
+    @PreAuthorize(Authorities.PUBLISHED_CONTENT_READ)
+    @Transactional(readOnly = true)
+    public PublishedContentVersion findDocumentsVersion(final PublishedContentType contentType, final UUID languageId) {
+        final PublishedContentRepository.DocumentsVersion version = publishedContentRepository.findDocumentsVersion(contentType,
+                languageId);
+        final long updatedAt = version.getUpdatedAt() == null ? 0 : toInstant(version.getUpdatedAt()).toEpochMilli();
+        return new PublishedContentVersion(eTag(version.getCount() + "-" + Long.toHexString(updatedAt)), null);
+    }
+
+    /**
+     * Returns one slice of the published items of one type in one language, newest first, using keyset
+     * pagination on {@code (createdAt, contentId)}. The JSON object has the shape of a
+     * {@link CursorPage}.
+     *
+     * @param cursor token of the previous slice, or null for the first slice
+     * @param size requested slice size, capped at {@code GlobalSettings.maxItemsPerPage}
+     */
+    @PreAuthorize(Authorities.PUBLISHED_CONTENT_READ)
+    @Transactional(readOnly = true)
+    public String findDocuments(final PublishedContentType contentType, final UUID languageId, final String cursor,
+            final Integer size) {
+        final KeysetCursor after = KeysetCursor.decode(cursor);
+        final int pageSize = CursorPage.effectiveSize(size, globalSettingsService.getCurrentSettings().maxItemsPerPage());
+        final CursorPage<PublishedContentRepository.DocumentRow> slice = CursorPage.slice(
+                publishedContentRepository.findDocuments(contentType, languageId,
+                        after == null ? null : after.createdAt(),
+                        after == null ? null : after.id(),
+                        Limit.of(pageSize + 1)),
+                pageSize, row -> new KeysetCursor(row.getCreatedAt(), row.getContentId()));
+        final String items = slice.items().stream()
+                .map(PublishedContentRepository.DocumentRow::getDocument)
+                .collect(Collectors.joining(","));
+        // the cursor is URL-safe Base64, it never needs escaping
+        final String nextCursor = slice.nextCursor() == null ? "null" : "\"" + slice.nextCursor() + "\"";
+        return "{\"items\":[" + items + "],\"nextCursor\":" + nextCursor + "}";
+    }
+
+    /**
+     * Takes the lock of a rebuild of the read model, which is held until the end of the current
+     * transaction, so only one instance rebuilds at a time.
+     *
+     * @return true if the lock was taken, false if another instance is rebuilding
+     */
+    @Transactional
+    public boolean lockForRebuild() {
+        return publishedContentRepository.tryAdvisoryXactLock(REBUILD_LOCK_KEY);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return publishedContentRepository.count() == 0;
+    }
+
+    /**
+     * Replaces the documents of a page, one per content language. Unpublished pages are only removed.
+     */
+    @Transactional
+    public void publishPage(final PageResponseDTO page) {
+        replace(PublishedContentType.PAGE, page.id(), page.published(), page.createdAt(), page.contents().stream()
+                .collect(Collectors.toMap(PageContentResponseDTO::languageId, content -> new PublishedContentDocument(
+                        page.id(), page.linkId(), page.thumbnail(), page.commentsEnabled(), content,
+                        page.createdAt(), page.updatedAt()))));
+    }
+
+    /**
+     * Replaces the documents of a post, one per content language. Unpublished posts are only removed.
+     */
+    @Transactional
+    public void publishPost(final PostResponseDTO post, final List<PostContentResponseDTO> contents) {
+        final UUID linkId = post.link() == null ? null : post.link().getId();
+        replace(PublishedContentType.POST, post.id(), post.published(), post.createdAt(), contents.stream()
+                .collect(Collectors.toMap(content -> content.language().getId(), content -> new PublishedContentDocument(
+                        post.id(), linkId, post.thumbnail(), post.commentsEnabled(), content,
+                        post.createdAt(), post.updatedAt()))));
+    }
+
+    /**
+     * Replaces the documents of a homepage, one per content language. Homepages have no published flag,
+     * so all of their contents are visible to visitors.
+     */
+    @Transactional
+    public void publishHomepage(final HomepageResponseDTO homepage) {
+        replace(PublishedContentType.HOMEPAGE, homepage.id(), true, homepage.createdAt(), homepage.contents().stream()
+                .collect(Collectors.toMap(HomepageContentResponseDTO::languageId, content -> new PublishedContentDocument(
+                        homepage.id(), homepage.linkId(), homepage.thumbnail(), null, content,
+                        homepage.createdAt(), homepage.updatedAt()))));
+    }
+
+    @Transactional
+    public void removePage(final UUID pageId) {
+        publishedContentRepository.deleteByContent(PublishedContentType.PAGE, pageId);
+    }
+
+    @Transactional
+    public void removePost(final UUID postId) {
+        publishedContentRepository.deleteByContent(PublishedContentType.POST, postId);
+    }
+
+    @Transactional
+    public void removeHomepage(final UUID homepageId) {
+        publishedContentRepository.deleteByContent(PublishedContentType.HOMEPAGE, homepageId);
+    }
+
+    /**
+     * Removes the documents of all pages, before {@code PageService} rebuilds them from scratch.
+     */
+    @Transactional
+    public void clearPages() {
+        publishedContentRepository.deleteByContentType(PublishedContentType.PAGE);
+    }
+
+    /**
+     * Removes the documents of all posts, before {@code PostService} rebuilds them from scratch.
+     */
+    @Transactional
+    public void clearPosts() {
+        publishedContentRepository.deleteByContentType(PublishedContentType.POST);
+    }
+
+    /**
+     * Removes the documents of all homepages, before {@code HomepageService} rebuilds them from
+     * scratch.
+     */
+    @Transactional
+    public void clearHomepages() {
+        publishedContentRepository.deleteByContentType(PublishedContentType.HOMEPAGE);
+    }
+
+    private void replace(final PublishedContentType contentType, final UUID contentId, final boolean published,
+            final LocalDateTime createdAt, final Map<UUID, PublishedContentDocument> documentsByLanguage) {
+        publishedContentRepository.deleteByContent(contentType, contentId);
+        if (!published || documentsByLanguage.isEmpty()) {
+            return;
+        }
+        final LocalDateTime writtenAt = LocalDateTime.now();
+        final LocalDateTime sortKey = createdAt == null ? writtenAt : createdAt;
+        final List<PublishedContent> rows = documentsByLanguage.entrySet().stream()
+                .map(entry -> toRow(contentType, contentId, entry.getKey(), sortKey, writtenAt, entry.getValue()))
+                .toList();
+        publishedContentRepository.saveAll(rows);
+    }
+
+    private PublishedContent toRow(final PublishedContentType contentType, final UUID contentId, final UUID languageId,
+            final LocalDateTime createdAt, final LocalDateTime writtenAt, final PublishedContentDocument document) {
+        final PublishedContent row = new PublishedContent();
+        row.setContentType(contentType);
+        row.setContentId(contentId);
+        row.setLanguageId(languageId);
+        row.setCreatedAt(createdAt);
+        row.setUpdatedAt(writtenAt);
+        try {
+            row.setDocument(objectMapper.writeValueAsString(document));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(String.format(SERIALIZATION_FAILED, contentType, contentId), e);
+        }
+        return row;
+    }
+
+    private static Instant toInstant(final LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static String eTag(final String version) {
+        return "\"" + version + "\"";
+    }
+}
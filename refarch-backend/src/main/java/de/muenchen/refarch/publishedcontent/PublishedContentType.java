@@ -0,0 +1,10 @@
+package de.muenchen.refarch.publishedcontent;
+
+/**
+ * Kind of content item held in the published content read model.
+ */
+public enum PublishedContentType {
+    PAGE,
+    POST,
+    HOMEPAGE
+}
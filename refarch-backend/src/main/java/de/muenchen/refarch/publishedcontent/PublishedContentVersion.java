@@ -0,0 +1,23 @@
+package de.muenchen.refarch.publishedcontent;
+
+import java.time.Instant;
+
+/**
+ * Validators of a published representation for conditional GETs, looked up without loading the
+ * documents.
+ *
+ * @param eTag strong entity tag, including the quotes
+ * @param lastModified time of the last change, or null if it cannot be told, e.g. for removals from a
+ *            listing
+ */
+public record PublishedContentVersion(String eTag, Instant lastModified) {
+
+    /**
+     * @return the last modification in milliseconds as expected by
+     *         {@link org.springframework.web.context.request.WebRequest#checkNotModified(String, long)},
+     *         or -1 if unknown
+     */
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+}
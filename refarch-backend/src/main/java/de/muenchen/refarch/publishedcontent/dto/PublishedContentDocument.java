@@ -0,0 +1,25 @@
+package de.muenchen.refarch.publishedcontent.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Document stored in the published content read model for one content item in one language.
+ *
+ * @param id id of the page, post or homepage
+ * @param linkId id of the link the item is published under
+ * @param thumbnail thumbnail of the item
+ * @param commentsEnabled whether comments are enabled, null for homepages
+ * @param content the content of the item in this language
+ * @param createdAt creation timestamp of the item
+ * @param updatedAt last update timestamp of the item
+ */
+public record PublishedContentDocument(
+        UUID id,
+        UUID linkId,
+        String thumbnail,
+        Boolean commentsEnabled,
+        Object content,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
@@ -1,10 +1,13 @@
 package de.muenchen.refarch.role;
 
+import de.muenchen.refarch.configuration.CacheConfiguration;
 import de.muenchen.refarch.role.dto.RoleRequestDTO;
 import de.muenchen.refarch.role.dto.RoleResponseDTO;
 import de.muenchen.refarch.security.Authorities;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,14 +36,25 @@ public class RoleService {
                 .orElseThrow(() -> new EntityNotFoundException("Role not found with id: " + id));
     }
 
-    @PreAuthorize(Authorities.ROLE_READ)
+    /**
+     * Looks up a role by name for assigning it to a user. Not exposed through a controller and
+     * left without {@code @PreAuthorize} because anonymous registration and startup seeding need it.
+     */
     @Transactional(readOnly = true)
+    @Cacheable(CacheConfiguration.ROLES)
     public RoleResponseDTO getRoleByName(final String name) {
         return roleRepository.findByName(name)
                 .map(this::mapToResponseDTO)
                 .orElseThrow(() -> new EntityNotFoundException("Role not found with name: " + name));
     }
 
+    /**
+     * Returns an unloaded reference to the role for use as an association of another entity.
+     */
+    public Role getReference(final RoleResponseDTO role) {
+        return roleRepository.getReferenceById(role.id());
+    }
+
     @PreAuthorize(Authorities.ROLE_WRITE)
     @Transactional
     public RoleResponseDTO createRole(final RoleRequestDTO request) {
@@ -56,6 +70,7 @@ public class RoleService {
 
     @PreAuthorize(Authorities.ROLE_WRITE)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.ROLES, allEntries = true)
     public RoleResponseDTO updateRole(final UUID id, final RoleRequestDTO request) {
         final Role role = roleRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Role not found with id: " + id));
@@ -70,6 +85,7 @@ public class RoleService {
 
     @PreAuthorize(Authorities.ROLE_WRITE)
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.ROLES, allEntries = true)
     public void deleteRole(final UUID id) {
         if (!roleRepository.existsById(id)) {
             throw new EntityNotFoundException("Role not found with id: " + id);
@@ -51,6 +51,9 @@ public final class Authorities {
     public static final String HOMEPAGE_READ = PERMIT_ALL;
     public static final String HOMEPAGE_WRITE = ADMIN_ROLE;
 
+    // Published content read model
+    public static final String PUBLISHED_CONTENT_READ = PERMIT_ALL;
+
     // User management
     public static final String USER_READ = ADMIN_USER_MANAGER_ROLES;
     public static final String USER_WRITE = ADMIN_USER_MANAGER_ROLES;
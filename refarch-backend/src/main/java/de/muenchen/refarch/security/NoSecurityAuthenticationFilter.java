@@ -1,31 +1,28 @@
 package de.muenchen.refarch.security;
 
-import com.nimbusds.jwt.JWTClaimsSet;
-import de.muenchen.refarch.auth.service.JwtService;
+import de.muenchen.refarch.auth.service.TokenRevocationService;
+import de.muenchen.refarch.auth.service.VerifiedToken;
+import de.muenchen.refarch.auth.service.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
-@Slf4j
 @Profile("no-security")
 public class NoSecurityAuthenticationFilter extends OncePerRequestFilter {
-    private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
@@ -36,34 +33,23 @@ public class NoSecurityAuthenticationFilter extends OncePerRequestFilter {
             final String token = authHeader.substring(7);
 
             // Try to validate as a password-based JWT
-            if (jwtService.validateToken(token)) {
-                setPasswordBasedAuthentication(token);
-            }
+            verifiedTokenCache.verify(token)
+                    .filter(verified -> !tokenRevocationService.isRevoked(verified))
+                    .ifPresent(this::setPasswordBasedAuthentication);
         }
 
         // Always allow the request through in no-security mode
         filterChain.doFilter(request, response);
     }
 
-    private void setPasswordBasedAuthentication(final String token) {
-        try {
-            final JWTClaimsSet claims = jwtService.parseToken(token);
+    private void setPasswordBasedAuthentication(final VerifiedToken token) {
+        final UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                token.subject(),
+                null,
+                token.authorities());
 
-            @SuppressWarnings("unchecked")
-            final List<String> authorities = claims.getStringListClaim("authorities");
-
-            final UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    claims.getSubject(),
-                    null,
-                    authorities.stream()
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList()));
-
-            final SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-        } catch (Exception e) {
-            log.error("Error setting password-based authentication", e);
-        }
+        final SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
     }
 }
@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.io.Serial;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -79,12 +80,64 @@ public class User extends BaseEntity {
     @Getter
     private LocalDateTime updatedAt;
 
+    /**
+     * Read-only copies of the roles, built once per entity load and reset whenever the roles change.
+     */
+    @Transient
+    private transient Set<Role> rolesView;
+
+    /**
+     * Returns an unmodifiable view of detached role copies. The view is created on first access and
+     * reused until the entity is reloaded or its roles are modified.
+     *
+     * @return the user's roles
+     */
     public Set<Role> getRoles() {
-        if (roles == null) {
-            return new HashSet<>();
+        Set<Role> view = rolesView;
+        if (view == null) {
+            view = copyRoles(roles);
+            rolesView = view;
         }
-        final Set<Role> rolesCopy = new HashSet<>();
-        for (final Role role : roles) {
+        return view;
+    }
+
+    public void setRoles(final Set<Role> roles) {
+        this.roles = roles == null ? new HashSet<>() : new HashSet<>(roles);
+        resetRolesView();
+    }
+
+    /**
+     * Assigns the given role to this user.
+     *
+     * @param role the role to add
+     */
+    public void addRole(final Role role) {
+        roles.add(role);
+        resetRolesView();
+    }
+
+    /**
+     * Removes the given role from this user.
+     *
+     * @param role the role to remove
+     */
+    public void removeRole(final Role role) {
+        roles.remove(role);
+        resetRolesView();
+    }
+
+    @PostLoad
+    @SuppressWarnings("PMD.NullAssignment")
+    protected void resetRolesView() {
+        rolesView = null;
+    }
+
+    private static Set<Role> copyRoles(final Set<Role> source) {
+        if (source == null || source.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<Role> rolesCopy = new HashSet<>(source.size() * 2);
+        for (final Role role : source) {
             if (role != null) {
                 final Role roleCopy = new Role();
                 roleCopy.setId(role.getId());
@@ -94,7 +147,7 @@ public class User extends BaseEntity {
                 rolesCopy.add(roleCopy);
             }
         }
-        return rolesCopy;
+        return Collections.unmodifiableSet(rolesCopy);
     }
 
     public String getEmail() {
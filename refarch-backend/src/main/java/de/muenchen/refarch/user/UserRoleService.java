@@ -37,7 +37,7 @@ public class UserRoleService {
         final Role role = roleRepository.findById(roleId)
                 .orElseThrow(() -> new EntityNotFoundException(ROLE_NOT_FOUND_MESSAGE + roleId));
 
-        user.getRoles().add(role);
+        user.addRole(role);
         return userRepository.save(user).getRoles();
     }
 
@@ -50,7 +50,7 @@ public class UserRoleService {
         final Role role = roleRepository.findById(roleId)
                 .orElseThrow(() -> new EntityNotFoundException(ROLE_NOT_FOUND_MESSAGE + roleId));
 
-        user.getRoles().remove(role);
+        user.removeRole(role);
         return userRepository.save(user).getRoles();
     }
 
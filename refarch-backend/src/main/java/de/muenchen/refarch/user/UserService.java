@@ -4,7 +4,7 @@ import de.muenchen.refarch.user.dto.UserRequestDTO;
 import de.muenchen.refarch.user.dto.UserResponseDTO;
 import de.muenchen.refarch.security.Authorities;
 import de.muenchen.refarch.role.Role;
-import de.muenchen.refarch.role.RoleRepository;
+import de.muenchen.refarch.role.RoleService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,7 +23,7 @@ public class UserService {
     private static final String ALREADY_EXISTS_SUFFIX = " already exists";
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final RoleRepository roleRepository;
+    private final RoleService roleService;
 
     @PreAuthorize(Authorities.USER_READ)
     @Transactional(readOnly = true)
@@ -62,8 +62,7 @@ public class UserService {
         user.setThumbnail(request.thumbnail());
 
         // Assign default ROLE_USER role
-        final Role userRole = roleRepository.findByName("ROLE_USER")
-                .orElseThrow(() -> new IllegalStateException("Default ROLE_USER not found"));
+        final Role userRole = roleService.getReference(roleService.getRoleByName("ROLE_USER"));
         user.setRoles(Set.of(userRole));
 
         return mapToResponseDTO(userRepository.save(user));
@@ -0,0 +1,11 @@
+-- Keyset pagination of pages and posts, newest first
+CREATE INDEX idx_pages_created_at_id ON pages (created_at DESC, id DESC);
+CREATE INDEX idx_posts_created_at_id ON posts (created_at DESC, id DESC);
+
+-- Keyset pagination filtered by published state
+CREATE INDEX idx_pages_published_created_at_id ON pages (published, created_at DESC, id DESC);
+CREATE INDEX idx_posts_published_created_at_id ON posts (published, created_at DESC, id DESC);
+
+-- Language filter on listings
+CREATE INDEX idx_pages_content_i18n_language_id ON pages_content_i18n (language_id, page_id);
+CREATE INDEX idx_posts_content_i18n_language_id ON posts_content_i18n (language_id, post_id);
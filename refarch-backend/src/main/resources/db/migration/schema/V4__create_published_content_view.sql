@@ -0,0 +1,13 @@
+-- Denormalized read model of published content, one pre-rendered JSON document per item and language
+CREATE TABLE published_content_view (
+    id UUID PRIMARY KEY,
+    content_type VARCHAR(16) NOT NULL,
+    content_id UUID NOT NULL,
+    language_id UUID NOT NULL,
+    document TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (language_id) REFERENCES languages_i18n(id) ON DELETE CASCADE,
+    UNIQUE (content_type, content_id, language_id)
+);
+
+CREATE INDEX idx_published_content_view_listing ON published_content_view (content_type, language_id, created_at DESC);
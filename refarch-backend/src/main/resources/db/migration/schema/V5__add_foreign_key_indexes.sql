@@ -0,0 +1,15 @@
+-- Comment threads of a post or page, newest first, and comments of a user
+CREATE INDEX idx_comments_post_id_created_at ON comments (post_id, created_at);
+CREATE INDEX idx_comments_page_id_created_at ON comments (page_id, created_at);
+CREATE INDEX idx_comments_user_id ON comments (user_id);
+
+-- Active sessions of a user and cleanup of expired refresh tokens
+CREATE INDEX idx_refresh_tokens_user_id_expires_at ON refresh_tokens (user_id, expires_at);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+-- Posts and pages of a user, lookups by link id are covered by the unique constraints
+CREATE INDEX idx_posts_users_user_id ON posts_users (user_id);
+CREATE INDEX idx_pages_users_user_id ON pages_users (user_id);
+
+-- Links by scope
+CREATE INDEX idx_links_scope ON links (scope);
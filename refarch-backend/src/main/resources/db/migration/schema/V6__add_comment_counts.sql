@@ -0,0 +1,12 @@
+-- Number of comments per post and page, maintained by CommentService
+ALTER TABLE posts ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE pages ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE posts p SET comment_count = (SELECT count(*) FROM comments c WHERE c.post_id = p.id);
+UPDATE pages p SET comment_count = (SELECT count(*) FROM comments c WHERE c.page_id = p.id);
+
+-- Keyset pagination of comment threads, newest first on (created_at, id)
+DROP INDEX idx_comments_post_id_created_at;
+DROP INDEX idx_comments_page_id_created_at;
+CREATE INDEX idx_comments_post_id_created_at_id ON comments (post_id, created_at, id);
+CREATE INDEX idx_comments_page_id_created_at_id ON comments (page_id, created_at, id);
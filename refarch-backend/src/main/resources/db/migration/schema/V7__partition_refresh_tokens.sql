@@ -0,0 +1,83 @@
+-- Range-partition refresh_tokens by month of expires_at, so expired tokens are removed by dropping
+-- whole partitions instead of deleting rows, see RefreshTokenExpiry.
+
+-- Primary and unique keys of a partitioned table must contain the partition key, the token is
+-- still looked up through a plain index
+DROP INDEX idx_refresh_tokens_user_id_expires_at;
+DROP INDEX idx_refresh_tokens_expires_at;
+ALTER TABLE refresh_tokens RENAME TO refresh_tokens_unpartitioned;
+
+CREATE TABLE refresh_tokens (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL,
+    token VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    last_used TIMESTAMP NOT NULL,
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(255),
+    is_valid BOOLEAN NOT NULL DEFAULT true,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (id, expires_at),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) PARTITION BY RANGE (expires_at);
+
+CREATE INDEX idx_refresh_tokens_token ON refresh_tokens (token);
+CREATE INDEX idx_refresh_tokens_user_id_expires_at ON refresh_tokens (user_id, expires_at);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+-- Catches tokens expiring after the last monthly partition, these are deleted row by row
+CREATE TABLE refresh_tokens_default PARTITION OF refresh_tokens DEFAULT;
+
+-- Creates the partitions refresh_tokens_YYYY_MM of the current and the following months. A month
+-- that already has tokens in the default partition is skipped with a warning.
+CREATE FUNCTION create_refresh_token_partitions(months_ahead INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', CURRENT_DATE);
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        partition_name := 'refresh_tokens_' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(partition_name) IS NULL THEN
+            BEGIN
+                EXECUTE format('CREATE TABLE %I PARTITION OF refresh_tokens FOR VALUES FROM (%L) TO (%L)',
+                        partition_name, month_start, (month_start + INTERVAL '1 month')::DATE);
+                created := created + 1;
+            EXCEPTION WHEN check_violation THEN
+                RAISE WARNING 'Cannot create %, the default partition has tokens of that month', partition_name;
+            END;
+        END IF;
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drops the monthly partitions whose tokens all expired before the given time
+CREATE FUNCTION drop_refresh_token_partitions_before(expired_before TIMESTAMP) RETURNS INTEGER AS $$
+DECLARE
+    partition_name TEXT;
+    dropped INTEGER := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'refresh_tokens'::regclass AND c.relname ~ '^refresh_tokens_\d{4}_\d{2}$'
+    LOOP
+        IF to_date(substring(partition_name FROM 16), 'YYYY_MM') + INTERVAL '1 month' <= expired_before THEN
+            EXECUTE format('DROP TABLE %I', partition_name);
+            dropped := dropped + 1;
+        END IF;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_refresh_token_partitions(3);
+
+-- Expired tokens are not carried over
+INSERT INTO refresh_tokens (id, user_id, token, expires_at, last_used, ip_address, user_agent, is_valid, created_at, updated_at)
+SELECT id, user_id, token, expires_at, last_used, ip_address, user_agent, is_valid, created_at, updated_at
+FROM refresh_tokens_unpartitioned WHERE expires_at > CURRENT_TIMESTAMP;
+
+DROP TABLE refresh_tokens_unpartitioned;
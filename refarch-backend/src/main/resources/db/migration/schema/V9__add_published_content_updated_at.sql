@@ -0,0 +1,2 @@
+-- Time each document was last written, the version of conditional GETs on the published endpoints
+ALTER TABLE published_content_view ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
@@ -0,0 +1,187 @@
+package de.muenchen.refarch;
+
+import de.muenchen.refarch.auth.token.RefreshTokenRepository;
+import de.muenchen.refarch.comment.CommentRepository;
+import de.muenchen.refarch.link.LinkRepository;
+import de.muenchen.refarch.link.LinkScope;
+import de.muenchen.refarch.pages.users.PagesUsersRepository;
+import de.muenchen.refarch.posts.users.PostsUsersRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the secondary indexes against regressions: every statement issued by the repository
+ * queries is explained on a seeded database and must not need a sequential scan.
+ * <p>
+ * Sequential scans are disabled while explaining, so the planner only falls back to one if no index
+ * matches, independent of the amount of test data.
+ */
+@DataJpaTest(
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "de.muenchen.refarch.RepositoryIndexUsageTest$RecordingStatementInspector"
+)
+@Testcontainers
+class RepositoryIndexUsageTest {
+
+    private static final UUID ID = UUID.randomUUID();
+
+    private static final String SEQ_SCAN = "Seq Scan";
+
+    private static final char JDBC_PARAMETER = '?';
+
+    private static final List<String> SEED = List.of(
+            "INSERT INTO users (username, email, password) "
+                    + "SELECT 'user' || i, 'user' || i || '@example.com', 'secret' FROM generate_series(1, 200) i",
+            "INSERT INTO links (url, scope) "
+                    + "SELECT '/link/' || i, CASE WHEN i % 2 = 0 THEN 'INTERNAL' ELSE 'EXTERNAL' END "
+                    + "FROM generate_series(1, 400) i",
+            "INSERT INTO posts (link_id) SELECT id FROM links WHERE scope = 'INTERNAL'",
+            "INSERT INTO pages (link_id) SELECT id FROM links WHERE scope = 'EXTERNAL'",
+            "INSERT INTO comments (post_id, user_id, content, created_at) "
+                    + "SELECT p.id, u.id, 'comment', CURRENT_TIMESTAMP - random() * INTERVAL '30 days' "
+                    + "FROM posts p CROSS JOIN (SELECT id FROM users LIMIT 10) u",
+            "INSERT INTO comments (page_id, user_id, content, created_at) "
+                    + "SELECT p.id, u.id, 'comment', CURRENT_TIMESTAMP - random() * INTERVAL '30 days' "
+                    + "FROM pages p CROSS JOIN (SELECT id FROM users LIMIT 10) u",
+            "INSERT INTO refresh_tokens (user_id, token, expires_at, last_used) "
+                    + "SELECT u.id, gen_random_uuid()::text, CURRENT_TIMESTAMP + (i - 5) * INTERVAL '1 day', "
+                    + "CURRENT_TIMESTAMP FROM users u CROSS JOIN generate_series(1, 10) i",
+            "INSERT INTO posts_users (post_link_id, user_id) "
+                    + "SELECT p.link_id, u.id FROM posts p CROSS JOIN (SELECT id FROM users LIMIT 5) u",
+            "INSERT INTO pages_users (page_link_id, user_id) "
+                    + "SELECT p.link_id, u.id FROM pages p CROSS JOIN (SELECT id FROM users LIMIT 5) u",
+            "ANALYZE");
+
+    @Container
+    @ServiceConnection
+    @SuppressWarnings("unused")
+    private static final PostgreSQLContainer<?> POSTGRE_SQL_CONTAINER = new PostgreSQLContainer<>(
+            DockerImageName.parse(TestConstants.TESTCONTAINERS_POSTGRES_IMAGE));
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PostsUsersRepository postsUsersRepository;
+
+    @Autowired
+    private PagesUsersRepository pagesUsersRepository;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @BeforeEach
+    void setUp() {
+        SEED.forEach(statement -> entityManager.createNativeQuery(statement).executeUpdate());
+    }
+
+    @Test
+    void commentQueries_ShouldUseIndexes() {
+        assertUsesIndexes(() -> commentRepository.findByPostId(ID));
+        assertUsesIndexes(() -> commentRepository.findByPageId(ID));
+        assertUsesIndexes(() -> commentRepository.findByUserId(ID));
+        assertUsesIndexes(() -> commentRepository.findByPostIdOrderByCreatedAtDesc(ID));
+        assertUsesIndexes(() -> commentRepository.findByPageIdOrderByCreatedAtDesc(ID));
+        assertUsesIndexes(() -> commentRepository.findThreadByPostId(ID, LocalDateTime.now(), ID, Limit.of(20)));
+        assertUsesIndexes(() -> commentRepository.findThreadByPageId(ID, null, null, Limit.of(20)));
+        assertUsesIndexes(() -> commentRepository.deleteByPostIdAndUserId(ID, ID));
+        assertUsesIndexes(() -> commentRepository.deleteByPageIdAndUserId(ID, ID));
+    }
+
+    @Test
+    void refreshTokenQueries_ShouldUseIndexes() {
+        assertUsesIndexes(() -> refreshTokenRepository.findByTokenAndIsValidTrue("token"));
+        assertUsesIndexes(() -> refreshTokenRepository.findByUserIdAndIsValidTrueAndExpiresAtAfter(ID, LocalDateTime.now()));
+        assertUsesIndexes(() -> refreshTokenRepository.deleteByUserIdAndIsValidTrue(ID));
+        assertUsesIndexes(() -> refreshTokenRepository.findIdsByExpiresAtBefore(LocalDateTime.now(), Limit.of(100)));
+        assertUsesIndexes(() -> refreshTokenRepository.deleteByIdInAndExpiresAtBefore(List.of(ID), LocalDateTime.now()));
+        assertUsesIndexes(() -> refreshTokenRepository.updateLastUsed(new UUID[] { ID }, new LocalDateTime[] { LocalDateTime.now() }));
+    }
+
+    @Test
+    void postsUsersQueries_ShouldUseIndexes() {
+        assertUsesIndexes(() -> postsUsersRepository.findByPostLinkId(ID));
+        assertUsesIndexes(() -> postsUsersRepository.findByUserId(ID));
+        assertUsesIndexes(() -> postsUsersRepository.deleteByPostLinkIdAndUserId(ID, ID));
+    }
+
+    @Test
+    void pagesUsersQueries_ShouldUseIndexes() {
+        assertUsesIndexes(() -> pagesUsersRepository.findByPageLinkId(ID));
+        assertUsesIndexes(() -> pagesUsersRepository.findByUserId(ID));
+        assertUsesIndexes(() -> pagesUsersRepository.deleteByPageLinkIdAndUserId(ID, ID));
+    }
+
+    @Test
+    void linkQueries_ShouldUseIndexes() {
+        assertUsesIndexes(() -> linkRepository.findByScope(LinkScope.INTERNAL));
+    }
+
+    private void assertUsesIndexes(final Runnable query) {
+        RecordingStatementInspector.STATEMENTS.clear();
+        query.run();
+        final List<String> statements = List.copyOf(RecordingStatementInspector.STATEMENTS);
+        assertThat(statements).isNotEmpty();
+
+        entityManager.createNativeQuery("SELECT set_config('enable_seqscan', 'off', true)").getSingleResult();
+        for (final String statement : statements) {
+            assertThat(explain(statement)).as(statement).noneMatch(line -> line.contains(SEQ_SCAN));
+        }
+        entityManager.createNativeQuery("SELECT set_config('enable_seqscan', 'on', true)").getSingleResult();
+    }
+
+    /**
+     * Explains the generic plan of a statement, which does not need values for its parameters.
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> explain(final String statement) {
+        final StringBuilder sql = new StringBuilder("EXPLAIN (GENERIC_PLAN) ");
+        int parameter = 0;
+        for (final char c : statement.toCharArray()) {
+            if (c == JDBC_PARAMETER) {
+                sql.append('$').append(++parameter);
+            } else {
+                sql.append(c);
+            }
+        }
+        return entityManager.createNativeQuery(sql.toString()).getResultList();
+    }
+
+    /**
+     * Records the SQL that Hibernate issues, so the statements of derived queries can be explained.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        /* default */ static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(final String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package de.muenchen.refarch.auth.service;
+
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.util.Base64URL;
+import de.muenchen.refarch.configuration.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String JANUARY = "2025-01";
+    private static final String FEBRUARY = "2025-02";
+    private static final byte[] CONTENT = "content".getBytes(StandardCharsets.US_ASCII);
+
+    private final List<Object> events = new ArrayList<>();
+
+    @TempDir
+    private Path keyDirectory;
+
+    @ParameterizedTest
+    @EnumSource(JwtAlgorithm.class)
+    void signingKey_ShouldSignAndVerifyWithEveryAlgorithm(final JwtAlgorithm algorithm) throws Exception {
+        // Arrange
+        writeKeyPair(JANUARY, algorithm.generateKeyPair(), true);
+        final JwtKeyRing keyRing = new JwtKeyRing(properties(algorithm), events::add);
+        final JWSHeader header = new JWSHeader(algorithm.jwsAlgorithm());
+
+        // Act
+        final JwtKey key = keyRing.signingKey();
+        final Base64URL signature = key.signer().sign(header, CONTENT);
+
+        // Assert
+        assertThat(key.id()).isEqualTo(JANUARY);
+        assertThat(key.algorithm()).isEqualTo(algorithm);
+        assertThat(keyRing.find(JANUARY).orElseThrow().verifier().verify(header, CONTENT, signature)).isTrue();
+    }
+
+    @Test
+    void signingKey_ShouldBeGreatestKeyIdWithPrivateKeyOfConfiguredAlgorithm() throws Exception {
+        // Arrange
+        writeKeyPair(JANUARY, JwtAlgorithm.RS256.generateKeyPair(), true);
+        writeKeyPair(FEBRUARY, JwtAlgorithm.RS256.generateKeyPair(), true);
+        writeKeyPair("2025-03", JwtAlgorithm.RS256.generateKeyPair(), false);
+        writeKeyPair("2025-04", JwtAlgorithm.ES256.generateKeyPair(), true);
+
+        // Act
+        final JwtKeyRing keyRing = new JwtKeyRing(properties(JwtAlgorithm.RS256), events::add);
+
+        // Assert
+        assertThat(keyRing.signingKey().id()).isEqualTo(FEBRUARY);
+        assertThat(keyRing.find("2025-03")).hasValueSatisfying(key -> assertThat(key.canSign()).isFalse());
+        assertThat(keyRing.find("2025-04")).isPresent();
+        assertThat(keyRing.find("unknown")).isEmpty();
+    }
+
+    @Test
+    void reload_ShouldPickUpRotatedKey() throws Exception {
+        // Arrange
+        writeKeyPair(JANUARY, JwtAlgorithm.EDDSA.generateKeyPair(), true);
+        final JwtKeyRing keyRing = new JwtKeyRing(properties(JwtAlgorithm.EDDSA), events::add);
+        writeKeyPair(FEBRUARY, JwtAlgorithm.EDDSA.generateKeyPair(), true);
+
+        // Act
+        keyRing.reload();
+
+        // Assert
+        assertThat(keyRing.signingKey().id()).isEqualTo(FEBRUARY);
+        assertThat(keyRing.find(JANUARY)).isPresent();
+        assertThat(events).containsExactly(new JwtKeysChangedEvent(Set.of(JANUARY, FEBRUARY)));
+    }
+
+    @Test
+    void reload_WhenKeysUnchanged_ShouldNotPublishEvent() throws Exception {
+        // Arrange
+        writeKeyPair(JANUARY, JwtAlgorithm.ES256.generateKeyPair(), true);
+        final JwtKeyRing keyRing = new JwtKeyRing(properties(JwtAlgorithm.ES256), events::add);
+
+        // Act
+        keyRing.reload();
+
+        // Assert
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void reload_WhenKeyReplaced_ShouldPublishEvent() throws Exception {
+        // Arrange
+        writeKeyPair(JANUARY, JwtAlgorithm.ES256.generateKeyPair(), true);
+        final JwtKeyRing keyRing = new JwtKeyRing(properties(JwtAlgorithm.ES256), events::add);
+        writeKeyPair(JANUARY, JwtAlgorithm.ES256.generateKeyPair(), true);
+
+        // Act
+        keyRing.reload();
+
+        // Assert
+        assertThat(events).containsExactly(new JwtKeysChangedEvent(Set.of(JANUARY)));
+    }
+
+    @Test
+    void reload_WhenKeyUnsupported_ShouldKeepPreviousKeys() throws Exception {
+        // Arrange
+        writeKeyPair(JANUARY, JwtAlgorithm.ES256.generateKeyPair(), true);
+        final JwtKeyRing keyRing = new JwtKeyRing(properties(JwtAlgorithm.ES256), events::add);
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp384r1"));
+        writeKeyPair(FEBRUARY, generator.generateKeyPair(), false);
+
+        // Act
+        keyRing.reload();
+
+        // Assert
+        assertThat(keyRing.signingKey().id()).isEqualTo(JANUARY);
+        assertThat(keyRing.find(FEBRUARY)).isEmpty();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void constructor_WhenKeysDoNotMatch_ShouldFail() throws Exception {
+        // Arrange
+        writeKeyPair(JANUARY, JwtAlgorithm.ES256.generateKeyPair(), true);
+        writePem(keyDirectory.resolve("2025-01.pub"), "PUBLIC KEY", JwtAlgorithm.ES256.generateKeyPair().getPublic());
+        final JwtProperties properties = properties(JwtAlgorithm.ES256);
+
+        // Act & Assert
+        assertThatThrownBy(() -> new JwtKeyRing(properties, events::add)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void constructor_WithoutKeyDirectory_ShouldGenerateKey() {
+        // Act
+        final JwtKeyRing keyRing = new JwtKeyRing(new JwtProperties(), events::add);
+
+        // Assert
+        assertThat(keyRing.signingKey().canSign()).isTrue();
+        assertThat(keyRing.find(keyRing.signingKey().id())).isPresent();
+    }
+
+    private JwtProperties properties(final JwtAlgorithm algorithm) {
+        final JwtProperties properties = new JwtProperties();
+        properties.setAlgorithm(algorithm);
+        properties.setKeyDirectory(keyDirectory);
+        return properties;
+    }
+
+    private void writeKeyPair(final String keyId, final KeyPair keyPair, final boolean withPrivateKey) throws Exception {
+        writePem(keyDirectory.resolve(keyId + ".pub"), "PUBLIC KEY", keyPair.getPublic());
+        if (withPrivateKey) {
+            writePem(keyDirectory.resolve(keyId + ".key"), "PRIVATE KEY", keyPair.getPrivate());
+        }
+    }
+
+    private static void writePem(final Path file, final String type, final Key key) throws Exception {
+        final String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(key.getEncoded());
+        Files.writeString(file, "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n");
+    }
+}
@@ -0,0 +1,84 @@
+package de.muenchen.refarch.auth.service;
+
+import de.muenchen.refarch.configuration.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordVerifierTest {
+
+    private static final String PASSWORD = "secret";
+    private static final int LOW_STRENGTH = 4;
+    private static final int HIGH_STRENGTH = 5;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordVerifier passwordVerifier;
+
+    @AfterEach
+    void tearDown() {
+        passwordVerifier.destroy();
+    }
+
+    @Test
+    void matches_ShouldVerifyPasswordAndRecordHashTime() {
+        // Arrange
+        passwordVerifier = verifier(new BCryptPasswordEncoder(LOW_STRENGTH), 1, 1);
+        final String hash = new BCryptPasswordEncoder(LOW_STRENGTH).encode(PASSWORD);
+
+        // Act & Assert
+        assertThat(passwordVerifier.matches(PASSWORD, hash)).isTrue();
+        assertThat(passwordVerifier.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("auth.password.hash").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void needsRehash_WhenStoredCostIsLower_ShouldBeTrue() {
+        // Arrange
+        passwordVerifier = verifier(new BCryptPasswordEncoder(HIGH_STRENGTH), 1, 1);
+
+        // Act & Assert
+        assertThat(passwordVerifier.needsRehash(new BCryptPasswordEncoder(LOW_STRENGTH).encode(PASSWORD))).isTrue();
+        assertThat(passwordVerifier.needsRehash(passwordVerifier.encode(PASSWORD))).isFalse();
+    }
+
+    @Test
+    void matches_WhenSaturated_ShouldFailFast() throws InterruptedException {
+        // Arrange
+        final CountDownLatch hashing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final PasswordEncoder slowEncoder = mock(PasswordEncoder.class);
+        when(slowEncoder.matches(any(), any())).thenAnswer(invocation -> {
+            hashing.countDown();
+            return release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        });
+        passwordVerifier = verifier(slowEncoder, 1, 0);
+        final CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> passwordVerifier.matches(PASSWORD, "hash"));
+        assertThat(hashing.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // Act & Assert
+        assertThatThrownBy(() -> passwordVerifier.matches(PASSWORD, "hash")).isInstanceOf(LoginCapacityExceededException.class);
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+        release.countDown();
+        assertThat(first.join()).isTrue();
+    }
+
+    private PasswordVerifier verifier(final PasswordEncoder encoder, final int threads, final int queueCapacity) {
+        final PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        return new PasswordVerifier(encoder, properties, meterRegistry);
+    }
+}
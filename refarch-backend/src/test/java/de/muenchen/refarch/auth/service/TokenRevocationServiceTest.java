@@ -0,0 +1,113 @@
+package de.muenchen.refarch.auth.service;
+
+import de.muenchen.refarch.auth.token.RevokedToken;
+import de.muenchen.refarch.auth.token.RevokedTokenRepository;
+import de.muenchen.refarch.configuration.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final String SUBJECT = "user";
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, new JwtProperties());
+    }
+
+    @Test
+    void revoke_ShouldStoreAndRevokeImmediately() {
+        // Arrange
+        final VerifiedToken token = token(Instant.now().plusSeconds(60));
+        final VerifiedToken other = token(Instant.now().plusSeconds(60));
+
+        // Act
+        tokenRevocationService.revoke(token);
+
+        // Assert
+        verify(revokedTokenRepository).revoke(any(UUID.class), any(LocalDateTime.class));
+        assertThat(tokenRevocationService.isRevoked(token)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(other)).isFalse();
+    }
+
+    @Test
+    void isRevoked_WhenTokenHasNoId_ShouldBeFalse() {
+        final VerifiedToken token = new VerifiedToken(SUBJECT, List.of(), Instant.now().plusSeconds(60), null);
+
+        tokenRevocationService.revoke(token);
+
+        assertThat(tokenRevocationService.isRevoked(token)).isFalse();
+    }
+
+    @Test
+    void sync_ShouldLoadUnexpiredThenIncrementalRevocations() {
+        // Arrange
+        final VerifiedToken first = token(Instant.now().plusSeconds(60));
+        final VerifiedToken second = token(Instant.now().plusSeconds(60));
+        final LocalDateTime revokedAt = LocalDateTime.now();
+        when(revokedTokenRepository.findByExpiresAtAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of(revokedToken(first, revokedAt)));
+        when(revokedTokenRepository.findByRevokedAtAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of(revokedToken(second, revokedAt.plusSeconds(1))));
+
+        // Act
+        tokenRevocationService.sync();
+        final boolean secondRevokedAfterFirstSync = tokenRevocationService.isRevoked(second);
+        tokenRevocationService.sync();
+
+        // Assert
+        assertThat(tokenRevocationService.isRevoked(first)).isTrue();
+        assertThat(secondRevokedAfterFirstSync).isFalse();
+        assertThat(tokenRevocationService.isRevoked(second)).isTrue();
+        verify(revokedTokenRepository).findByRevokedAtAfter(revokedAt.minusMinutes(1));
+    }
+
+    @Test
+    void sync_ShouldForgetExpiredRevocations() {
+        // Arrange
+        final VerifiedToken expired = token(Instant.now().minusSeconds(1));
+        final VerifiedToken valid = token(Instant.now().plusSeconds(60));
+        tokenRevocationService.revoke(expired);
+        tokenRevocationService.revoke(valid);
+
+        // Act
+        tokenRevocationService.sync();
+
+        // Assert
+        assertThat(tokenRevocationService.isRevoked(expired)).isFalse();
+        assertThat(tokenRevocationService.isRevoked(valid)).isTrue();
+    }
+
+    private static VerifiedToken token(final Instant expiresAt) {
+        return new VerifiedToken(SUBJECT, List.of(), expiresAt, UUID.randomUUID());
+    }
+
+    private static RevokedToken revokedToken(final VerifiedToken token, final LocalDateTime revokedAt) {
+        final RevokedToken revokedToken = new RevokedToken();
+        ReflectionTestUtils.setField(revokedToken, "tokenId", token.tokenId());
+        ReflectionTestUtils.setField(revokedToken, "expiresAt", LocalDateTime.ofInstant(token.expiresAt(), ZoneId.systemDefault()));
+        ReflectionTestUtils.setField(revokedToken, "revokedAt", revokedAt);
+        return revokedToken;
+    }
+}
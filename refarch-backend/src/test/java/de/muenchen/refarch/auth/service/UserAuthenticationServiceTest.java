@@ -0,0 +1,86 @@
+package de.muenchen.refarch.auth.service;
+
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
+import de.muenchen.refarch.globalsettings.dto.GlobalSettingsResponseDTO;
+import de.muenchen.refarch.user.User;
+import de.muenchen.refarch.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserAuthenticationServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "password123";
+    private static final String OUTDATED_HASH = "$2a$04$outdated";
+    private static final String CURRENT_HASH = "$2a$12$current";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordVerifier passwordVerifier;
+
+    @Mock
+    private GlobalSettingsService globalSettingsService;
+
+    @InjectMocks
+    private UserAuthenticationService userAuthenticationService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        user.setPassword(OUTDATED_HASH);
+
+        when(globalSettingsService.getCurrentSettings()).thenReturn(new GlobalSettingsResponseDTO(
+                null, null, null, null, null, null, null, null, null, null, null, null, false, true, null, null));
+        when(userRepository.findByEmailWithRoles(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordVerifier.matches(PASSWORD, OUTDATED_HASH)).thenReturn(true);
+        when(passwordVerifier.needsRehash(OUTDATED_HASH)).thenReturn(true);
+    }
+
+    @Test
+    void authenticateUser_WhenHashIsOutdated_ShouldRehash() {
+        // Arrange
+        when(passwordVerifier.encode(PASSWORD)).thenReturn(CURRENT_HASH);
+
+        // Act
+        final User result = userAuthenticationService.authenticateUser(EMAIL, PASSWORD);
+
+        // Assert
+        assertThat(result).isSameAs(user);
+        verify(userRepository).updatePassword(user.getId(), CURRENT_HASH);
+    }
+
+    @Test
+    void authenticateUser_WhenRehashIsRejected_ShouldStillAuthenticate() {
+        // Arrange
+        when(passwordVerifier.encode(PASSWORD)).thenThrow(
+                new LoginCapacityExceededException("Too many concurrent logins", new RejectedExecutionException()));
+
+        // Act
+        final User result = userAuthenticationService.authenticateUser(EMAIL, PASSWORD);
+
+        // Assert
+        assertThat(result).isSameAs(user);
+        verify(userRepository, never()).updatePassword(any(), any());
+    }
+}
@@ -0,0 +1,86 @@
+package de.muenchen.refarch.auth.service;
+
+import de.muenchen.refarch.configuration.CaffeineCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final String SUBJECT = "user-id";
+
+    @Mock
+    private JwtService jwtService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(jwtService, new CaffeineCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void verify_WhenCalledTwice_ShouldVerifyTokenOnce() {
+        final VerifiedToken token = new VerifiedToken(SUBJECT, List.of(new SimpleGrantedAuthority("ROLE_USER")),
+                Instant.now().plusSeconds(60), UUID.randomUUID());
+        when(jwtService.verify(TOKEN)).thenReturn(Optional.of(token));
+
+        assertThat(verifiedTokenCache.verify(TOKEN)).contains(token);
+        assertThat(verifiedTokenCache.verify(TOKEN)).contains(token);
+
+        verify(jwtService, times(1)).verify(TOKEN);
+        assertThat(meterRegistry.get("jwt.verify").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_AfterKeysChanged_ShouldVerifyTokenAgain() {
+        final VerifiedToken token = new VerifiedToken(SUBJECT, List.of(), Instant.now().plusSeconds(60), UUID.randomUUID());
+        when(jwtService.verify(TOKEN)).thenReturn(Optional.of(token));
+
+        verifiedTokenCache.verify(TOKEN);
+        verifiedTokenCache.onKeysChanged(new JwtKeysChangedEvent(Set.of("2025-02")));
+        verifiedTokenCache.verify(TOKEN);
+
+        verify(jwtService, times(2)).verify(TOKEN);
+    }
+
+    @Test
+    void verify_WhenTokenInvalid_ShouldNotCacheResult() {
+        when(jwtService.verify(TOKEN)).thenReturn(Optional.empty());
+
+        assertThat(verifiedTokenCache.verify(TOKEN)).isEmpty();
+        assertThat(verifiedTokenCache.verify(TOKEN)).isEmpty();
+
+        verify(jwtService, times(2)).verify(TOKEN);
+    }
+
+    @Test
+    void verify_WhenTokenAlreadyExpired_ShouldNotServeItFromCache() {
+        final VerifiedToken token = new VerifiedToken(SUBJECT, List.of(), Instant.now().minusSeconds(1), UUID.randomUUID());
+        when(jwtService.verify(TOKEN)).thenReturn(Optional.of(token));
+
+        verifiedTokenCache.verify(TOKEN);
+        verifiedTokenCache.verify(TOKEN);
+
+        verify(jwtService, times(2)).verify(TOKEN);
+    }
+}
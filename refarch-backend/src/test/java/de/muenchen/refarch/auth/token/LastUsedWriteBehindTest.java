@@ -0,0 +1,101 @@
+package de.muenchen.refarch.auth.token;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LastUsedWriteBehindTest {
+
+    private static final LocalDateTime EARLIER = LocalDateTime.of(2025, 1, 1, 10, 0);
+    private static final LocalDateTime LATER = EARLIER.plusMinutes(5);
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private LastUsedWriteBehind lastUsedWriteBehind;
+
+    @Test
+    void flush_ShouldWriteLatestTimestampPerTokenInOneUpdate() {
+        // Arrange
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        lastUsedWriteBehind.record(first, LATER);
+        lastUsedWriteBehind.record(first, EARLIER);
+        lastUsedWriteBehind.record(second, EARLIER);
+
+        // Act
+        lastUsedWriteBehind.flush();
+        lastUsedWriteBehind.flush();
+
+        // Assert
+        final ArgumentCaptor<UUID[]> ids = ArgumentCaptor.forClass(UUID[].class);
+        final ArgumentCaptor<LocalDateTime[]> timestamps = ArgumentCaptor.forClass(LocalDateTime[].class);
+        verify(refreshTokenRepository).updateLastUsed(ids.capture(), timestamps.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(first, second);
+        for (int i = 0; i < ids.getValue().length; i++) {
+            assertThat(timestamps.getValue()[i]).isEqualTo(ids.getValue()[i].equals(first) ? LATER : EARLIER);
+        }
+    }
+
+    @Test
+    void flush_WhenNothingRecorded_ShouldNotQuery() {
+        lastUsedWriteBehind.flush();
+
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    void flush_WhenUpdateFails_ShouldRetryWithNextFlush() {
+        // Arrange
+        final UUID tokenId = UUID.randomUUID();
+        lastUsedWriteBehind.record(tokenId, EARLIER);
+        when(refreshTokenRepository.updateLastUsed(any(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+
+        // Act
+        lastUsedWriteBehind.flush();
+        lastUsedWriteBehind.flush();
+
+        // Assert
+        final ArgumentCaptor<UUID[]> ids = ArgumentCaptor.forClass(UUID[].class);
+        verify(refreshTokenRepository, times(2)).updateLastUsed(ids.capture(), any());
+        assertThat(ids.getValue()).containsExactly(tokenId);
+    }
+
+    @Test
+    void flush_WhenDatabaseIsUnreachable_ShouldRetryWithNextFlush() {
+        // Arrange
+        final UUID tokenId = UUID.randomUUID();
+        lastUsedWriteBehind.record(tokenId, EARLIER);
+        when(refreshTokenRepository.updateLastUsed(any(), any()))
+                .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"))
+                .thenReturn(1);
+
+        // Act
+        lastUsedWriteBehind.flush();
+        lastUsedWriteBehind.flush();
+
+        // Assert
+        final ArgumentCaptor<UUID[]> ids = ArgumentCaptor.forClass(UUID[].class);
+        verify(refreshTokenRepository, times(2)).updateLastUsed(ids.capture(), any());
+        assertThat(ids.getValue()).containsExactly(tokenId);
+    }
+}
@@ -0,0 +1,72 @@
+package de.muenchen.refarch.auth.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenExpiryTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int PARTITIONS_AHEAD = 3;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenExpiry refreshTokenExpiry;
+
+    @BeforeEach
+    void setUp() {
+        final RefreshTokenProperties properties = new RefreshTokenProperties();
+        properties.setDeleteBatchSize(BATCH_SIZE);
+        properties.setPartitionsAhead(PARTITIONS_AHEAD);
+        refreshTokenExpiry = new RefreshTokenExpiry(refreshTokenRepository, properties);
+    }
+
+    @Test
+    void removeExpiredTokens_ShouldDropPartitionsAndDeleteRemainingTokensInChunks() {
+        // Arrange
+        when(refreshTokenRepository.findIdsByExpiresAtBefore(any(LocalDateTime.class), eq(Limit.of(BATCH_SIZE))))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .thenReturn(List.of(UUID.randomUUID()));
+        when(refreshTokenRepository.deleteByIdInAndExpiresAtBefore(anyList(), any(LocalDateTime.class)))
+                .thenReturn(2, 1);
+
+        // Act
+        refreshTokenExpiry.removeExpiredTokens();
+
+        // Assert
+        verify(refreshTokenRepository).createPartitions(PARTITIONS_AHEAD);
+        verify(refreshTokenRepository).dropPartitionsBefore(any(LocalDateTime.class));
+        verify(refreshTokenRepository, times(2)).findIdsByExpiresAtBefore(any(LocalDateTime.class), eq(Limit.of(BATCH_SIZE)));
+        verify(refreshTokenRepository, times(2)).deleteByIdInAndExpiresAtBefore(anyList(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void removeExpiredTokens_WhenNothingLeftToDelete_ShouldNotDelete() {
+        // Arrange
+        when(refreshTokenRepository.findIdsByExpiresAtBefore(any(LocalDateTime.class), eq(Limit.of(BATCH_SIZE))))
+                .thenReturn(List.of());
+
+        // Act
+        refreshTokenExpiry.removeExpiredTokens();
+
+        // Assert
+        verify(refreshTokenRepository, never()).deleteByIdInAndExpiresAtBefore(anyList(), any(LocalDateTime.class));
+    }
+}
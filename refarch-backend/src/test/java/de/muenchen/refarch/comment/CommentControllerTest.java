@@ -10,6 +10,7 @@ import de.muenchen.refarch.MicroServiceApplication;
 import de.muenchen.refarch.TestConstants;
 import de.muenchen.refarch.comment.dto.CommentRequestDTO;
 import de.muenchen.refarch.comment.dto.CommentResponseDTO;
+import de.muenchen.refarch.comment.dto.CommentThreadResponseDTO;
 import de.muenchen.refarch.user.dto.UserResponseDTO;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -48,6 +49,7 @@ class CommentControllerTest {
     private static final String API_COMMENTS_ID = "/api/comments/{commentId}/user/{userId}";
     private static final String API_COMMENTS_POST = "/api/comments/post/{postId}";
     private static final String API_COMMENTS_PAGE = "/api/comments/page/{pageId}";
+    private static final String API_COMMENTS_POST_PAGED = "/api/comments/post/{postId}/paged";
     private static final String API_COMMENTS_USER = "/api/comments/user/{userId}";
     private static final String API_COMMENTS_POST_CREATE = "/api/comments/post/{postId}/user/{userId}";
     private static final String API_COMMENTS_PAGE_CREATE = "/api/comments/page/{pageId}/user/{userId}";
@@ -142,6 +144,20 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$[0].content").value(TEST_COMMENT));
     }
 
+    @Test
+    void whenGettingCommentsByPostPaged_shouldReturnSliceWithCount() throws Exception {
+        // Arrange
+        final CommentThreadResponseDTO thread = new CommentThreadResponseDTO(List.of(commentResponseDTO), "next", 3);
+        when(commentService.findThreadByPostId(postId, null, 1)).thenReturn(thread);
+
+        // Act & Assert
+        mockMvc.perform(get(API_COMMENTS_POST_PAGED, postId).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(commentId.toString()))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.totalCount").value(3));
+    }
+
     @Test
     void whenGettingCommentsByPage_shouldReturnList() throws Exception {
         // Arrange
@@ -0,0 +1,57 @@
+package de.muenchen.refarch.comment;
+
+import de.muenchen.refarch.TestConstants;
+import de.muenchen.refarch.page.Page;
+import de.muenchen.refarch.post.Post;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the schema Hibernate generates under the test profile, where Flyway is off and
+ * {@code comment_count} only gets its default from the entity mapping.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles(TestConstants.SPRING_TEST_PROFILE)
+@Testcontainers
+class CommentCountMappingTest {
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse(TestConstants.TESTCONTAINERS_POSTGRES_IMAGE));
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldReloadSavedPageWithZeroCommentCount() {
+        final Page page = entityManager.persistFlushFind(new Page());
+        entityManager.clear();
+
+        final Page found = entityManager.find(Page.class, page.getId());
+
+        assertThat(found.getCommentCount()).isZero();
+    }
+
+    @Test
+    void shouldReloadSavedPostWithZeroCommentCount() {
+        final Post post = entityManager.persistFlushFind(new Post());
+        entityManager.clear();
+
+        final Post found = entityManager.find(Post.class, post.getId());
+
+        assertThat(found.getCommentCount()).isZero();
+    }
+}
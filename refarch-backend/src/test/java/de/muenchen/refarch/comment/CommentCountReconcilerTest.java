@@ -0,0 +1,36 @@
+package de.muenchen.refarch.comment;
+
+import de.muenchen.refarch.page.PageRepository;
+import de.muenchen.refarch.post.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCountReconcilerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @InjectMocks
+    private CommentCountReconciler commentCountReconciler;
+
+    @Test
+    void reconcile_ShouldCorrectPostsAndPages() {
+        when(postRepository.reconcileCommentCounts()).thenReturn(2);
+        when(pageRepository.reconcileCommentCounts()).thenReturn(0);
+
+        commentCountReconciler.reconcile();
+
+        verify(postRepository).reconcileCommentCounts();
+        verify(pageRepository).reconcileCommentCounts();
+    }
+}
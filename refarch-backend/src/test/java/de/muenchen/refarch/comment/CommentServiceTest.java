@@ -1,6 +1,12 @@
 package de.muenchen.refarch.comment;
 
 import de.muenchen.refarch.comment.dto.CommentResponseDTO;
+import de.muenchen.refarch.comment.dto.CommentThreadResponseDTO;
+import de.muenchen.refarch.common.KeysetCursor;
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
+import de.muenchen.refarch.globalsettings.dto.GlobalSettingsResponseDTO;
+import de.muenchen.refarch.page.PageRepository;
+import de.muenchen.refarch.post.PostRepository;
 import de.muenchen.refarch.user.User;
 import de.muenchen.refarch.user.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -10,6 +16,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -20,6 +28,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +46,21 @@ class CommentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @Mock
+    private GlobalSettingsService globalSettingsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CommentStreamHub commentStreamHub;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -105,6 +130,8 @@ class CommentServiceTest {
         assertThat(result.id()).isEqualTo(commentId);
         assertThat(result.content()).isEqualTo(TEST_COMMENT);
         verify(commentRepository).save(any(Comment.class));
+        verify(postRepository).addToCommentCount(postId, 1);
+        verify(eventPublisher).publishEvent(new CommentEvent(CommentEvent.Type.CREATED, result));
     }
 
     @Test
@@ -119,6 +146,8 @@ class CommentServiceTest {
         assertThat(result.id()).isEqualTo(commentId);
         assertThat(result.content()).isEqualTo(TEST_COMMENT);
         verify(commentRepository).save(any(Comment.class));
+        verify(pageRepository).addToCommentCount(pageId, 1);
+        verify(eventPublisher).publishEvent(new CommentEvent(CommentEvent.Type.CREATED, result));
     }
 
     @Test
@@ -131,6 +160,7 @@ class CommentServiceTest {
         assertThat(result.id()).isEqualTo(commentId);
         assertThat(result.content()).isEqualTo(UPDATED_COMMENT);
         verify(commentRepository).save(any(Comment.class));
+        verify(eventPublisher).publishEvent(new CommentEvent(CommentEvent.Type.UPDATED, result));
     }
 
     @Test
@@ -150,6 +180,9 @@ class CommentServiceTest {
         commentService.deleteComment(commentId, userId);
 
         verify(commentRepository).delete(comment);
+        verify(postRepository).addToCommentCount(postId, -1);
+        verifyNoInteractions(pageRepository);
+        verify(eventPublisher).publishEvent(any(CommentEvent.class));
     }
 
     @Test
@@ -183,4 +216,49 @@ class CommentServiceTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("User not found with id: " + userId);
     }
+
+    @Test
+    void findThreadByPostId_WhenMoreResultsExist_ShouldReturnSliceWithNextCursorAndCount() {
+        when(globalSettingsService.getCurrentSettings()).thenReturn(settingsWithMaxItemsPerPage(10));
+        final LocalDateTime now = LocalDateTime.now();
+        final CommentView first = view(commentId, now);
+        final CommentView second = view(UUID.randomUUID(), now.minusMinutes(1));
+        when(commentRepository.findThreadByPostId(eq(postId), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(first, second));
+        when(postRepository.findCommentCountById(postId)).thenReturn(Optional.of(42L));
+
+        final CommentThreadResponseDTO result = commentService.findThreadByPostId(postId, null, 1);
+
+        assertThat(result.items()).extracting(CommentResponseDTO::id).containsExactly(commentId);
+        assertThat(result.items().get(0).user().username()).isEqualTo(TEST_USERNAME);
+        assertThat(KeysetCursor.decode(result.nextCursor())).isEqualTo(new KeysetCursor(now, commentId));
+        assertThat(result.totalCount()).isEqualTo(42L);
+        verify(commentRepository).findThreadByPostId(postId, null, null, Limit.of(2));
+    }
+
+    @Test
+    void findThreadByPageId_WhenLastSlice_ShouldCapSizeAndReturnNoCursor() {
+        when(globalSettingsService.getCurrentSettings()).thenReturn(settingsWithMaxItemsPerPage(10));
+        final LocalDateTime now = LocalDateTime.now();
+        when(commentRepository.findThreadByPageId(pageId, now, commentId, Limit.of(11)))
+                .thenReturn(List.of(view(UUID.randomUUID(), now.minusMinutes(1))));
+        when(pageRepository.findCommentCountById(pageId)).thenReturn(Optional.empty());
+
+        final String cursor = new KeysetCursor(now, commentId).encode();
+        final CommentThreadResponseDTO result = commentService.findThreadByPageId(pageId, cursor, 50);
+
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.totalCount()).isZero();
+    }
+
+    private CommentView view(final UUID id, final LocalDateTime createdAt) {
+        return new CommentView(id, TEST_COMMENT, postId, null, createdAt, createdAt,
+                userId, TEST_USERNAME, null, null, null, null, null, createdAt, createdAt);
+    }
+
+    private GlobalSettingsResponseDTO settingsWithMaxItemsPerPage(final int maxItemsPerPage) {
+        return new GlobalSettingsResponseDTO(null, null, null, null, null, null, null, null, null, null, null,
+                maxItemsPerPage, null, null, null, null);
+    }
 }
@@ -0,0 +1,118 @@
+package de.muenchen.refarch.comment;
+
+import de.muenchen.refarch.comment.dto.CommentResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentStreamHubTest {
+
+    private static final int BUFFER_SIZE = 1;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommentStreamHub hub;
+    private UUID postId;
+
+    @BeforeEach
+    void setUp() {
+        final CommentStreamProperties properties = new CommentStreamProperties();
+        properties.setBufferSize(BUFFER_SIZE);
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new CommentStreamHub(properties, meterRegistry);
+        postId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.destroy();
+    }
+
+    @Test
+    void onCommentEvent_ShouldDeliverToSubscribersOfTopicOnly() throws InterruptedException {
+        // Arrange
+        final RecordingEmitter subscriber = new RecordingEmitter(1, false);
+        final RecordingEmitter otherSubscriber = new RecordingEmitter(1, false);
+        hub.subscribe(postId, subscriber);
+        hub.subscribe(UUID.randomUUID(), otherSubscriber);
+
+        // Act
+        hub.onCommentEvent(event(postId));
+
+        // Assert
+        assertThat(subscriber.sent.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.events).hasSize(1);
+        assertThat(otherSubscriber.events).isEmpty();
+        assertThat(meterRegistry.get("comments.stream.open").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void onCommentEvent_WhenSubscriberFallsBehind_ShouldDropOldestEvents() throws InterruptedException {
+        // Arrange
+        final RecordingEmitter subscriber = new RecordingEmitter(2, true);
+        hub.subscribe(postId, subscriber);
+        hub.onCommentEvent(event(postId));
+        assertThat(subscriber.sendStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        hub.onCommentEvent(event(postId));
+        hub.onCommentEvent(event(postId));
+        hub.onCommentEvent(event(postId));
+        subscriber.release.countDown();
+
+        // Assert
+        assertThat(subscriber.sent.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.events).hasSize(2).doesNotContainNull();
+        assertThat(meterRegistry.get("comments.stream.dropped").counter().count()).isEqualTo(2);
+    }
+
+    private static CommentEvent event(final UUID postId) {
+        return new CommentEvent(CommentEvent.Type.CREATED,
+                new CommentResponseDTO(UUID.randomUUID(), "content", postId, null, null, LocalDateTime.now(), LocalDateTime.now()));
+    }
+
+    /**
+     * Records the events instead of writing them to a response. If blocking, sending waits until
+     * released, so events pile up in the buffer of the subscriber.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch sent;
+
+        private RecordingEmitter(final int expectedEvents, final boolean blocking) {
+            super();
+            this.sent = new CountDownLatch(expectedEvents);
+            if (!blocking) {
+                release.countDown();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("PMD.DoNotUseThreads")
+        public void send(final SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            events.add(builder);
+            sent.countDown();
+        }
+    }
+}
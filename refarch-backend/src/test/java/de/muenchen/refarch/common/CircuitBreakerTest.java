@@ -0,0 +1,78 @@
+package de.muenchen.refarch.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(FAILURE_THRESHOLD, OPEN_DURATION, nanos::get);
+
+    @Test
+    void onFailure_WhenThresholdReached_ShouldOpen() {
+        // Act
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            circuitBreaker.onFailure();
+        }
+
+        // Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void onSuccess_ShouldResetConsecutiveFailures() {
+        // Act
+        for (int i = 0; i < FAILURE_THRESHOLD - 1; i++) {
+            circuitBreaker.onFailure();
+        }
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        // Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void tryAcquirePermission_WhenOpenDurationPassed_ShouldLetSingleTrialCallThrough() {
+        // Arrange
+        open();
+        nanos.addAndGet(OPEN_DURATION.toNanos());
+
+        // Act & Assert
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void onFailure_WhenTrialCallFails_ShouldOpenAgain() {
+        // Arrange
+        open();
+        nanos.addAndGet(OPEN_DURATION.toNanos());
+        circuitBreaker.tryAcquirePermission();
+
+        // Act
+        circuitBreaker.onFailure();
+
+        // Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
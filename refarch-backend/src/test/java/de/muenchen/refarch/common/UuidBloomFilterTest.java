@@ -0,0 +1,56 @@
+package de.muenchen.refarch.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidBloomFilterTest {
+
+    private static final int ELEMENTS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void mightContain_ShouldFindEveryAddedElement() {
+        // Arrange
+        final UuidBloomFilter filter = new UuidBloomFilter(ELEMENTS, FALSE_POSITIVE_RATE);
+        final List<UUID> added = new ArrayList<>(ELEMENTS);
+        for (int i = 0; i < ELEMENTS; i++) {
+            final UUID element = i % 2 == 0 ? UUID.randomUUID() : UuidV7Generator.generate();
+            filter.put(element);
+            added.add(element);
+        }
+
+        // Act & Assert
+        assertThat(added).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void mightContain_ShouldKeepFalsePositiveRate() {
+        // Arrange
+        final UuidBloomFilter filter = new UuidBloomFilter(ELEMENTS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < ELEMENTS; i++) {
+            filter.put(UuidV7Generator.generate());
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < ELEMENTS; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertThat((double) falsePositives / ELEMENTS).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    void constructor_WhenRateInvalid_ShouldThrow() {
+        assertThatThrownBy(() -> new UuidBloomFilter(ELEMENTS, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
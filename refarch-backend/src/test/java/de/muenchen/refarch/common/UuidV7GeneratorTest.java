@@ -0,0 +1,69 @@
+package de.muenchen.refarch.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7GeneratorTest {
+
+    private static final int VERSION_7 = 7;
+    private static final int VARIANT_RFC_9562 = 2;
+    private static final int COUNT = 10_000;
+
+    @Test
+    void generate_ShouldSetVersionVariantAndTimestamp() {
+        // Arrange
+        final long before = System.currentTimeMillis();
+
+        // Act
+        final UUID uuid = UuidV7Generator.generate();
+
+        // Assert
+        assertThat(uuid.version()).isEqualTo(VERSION_7);
+        assertThat(uuid.variant()).isEqualTo(VARIANT_RFC_9562);
+        assertThat(UuidV7Generator.timestamp(uuid)).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    void generate_WithinSameMillisecond_ShouldBeStrictlyIncreasing() {
+        // Arrange
+        final long now = System.currentTimeMillis();
+        final List<UUID> uuids = new ArrayList<>(COUNT);
+
+        // Act
+        for (int i = 0; i < COUNT; i++) {
+            uuids.add(UuidV7Generator.generate(now));
+        }
+
+        // Assert
+        for (int i = 1; i < COUNT; i++) {
+            assertThat(Long.compareUnsigned(uuids.get(i).getMostSignificantBits(),
+                    uuids.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+        assertThat(uuids).allSatisfy(uuid -> assertThat(uuid.version()).isEqualTo(VERSION_7));
+    }
+
+    @Test
+    void generate_WhenClockGoesBackwards_ShouldStillIncrease() {
+        // Arrange
+        final long now = System.currentTimeMillis();
+        final UUID first = UuidV7Generator.generate(now);
+
+        // Act
+        final UUID second = UuidV7Generator.generate(now - 1000);
+
+        // Assert
+        assertThat(Long.compareUnsigned(second.getMostSignificantBits(), first.getMostSignificantBits())).isPositive();
+    }
+
+    @Test
+    void timestamp_WhenRandomUuid_ShouldThrow() {
+        final UUID random = UUID.randomUUID();
+        assertThatThrownBy(() -> UuidV7Generator.timestamp(random)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package de.muenchen.refarch.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheConfigurationTest {
+
+    private CaffeineCacheProperties properties;
+    private CaffeineCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CaffeineCacheProperties();
+        cacheManager = new CaffeineCacheManager();
+    }
+
+    @Test
+    void customizer_ShouldRegisterAllCachesWithStatistics() {
+        new CacheConfiguration().caffeineCacheManagerCustomizer(properties).customize(cacheManager);
+
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder(
+                CacheConfiguration.LANGUAGES, CacheConfiguration.LINKS, CacheConfiguration.ROLES);
+        assertThat(nativeCache(CacheConfiguration.LANGUAGES).policy().isRecordingStats()).isTrue();
+    }
+
+    @Test
+    void customizer_WhenCacheHasOwnSpec_ShouldUseItInsteadOfDefaults() {
+        final CaffeineCacheProperties.CacheSpec spec = new CaffeineCacheProperties.CacheSpec();
+        spec.setMaximumSize(1);
+        spec.setExpireAfterWrite(Duration.ofSeconds(30));
+        properties.getCaches().put(CacheConfiguration.ROLES, spec);
+
+        new CacheConfiguration().caffeineCacheManagerCustomizer(properties).customize(cacheManager);
+
+        assertThat(nativeCache(CacheConfiguration.ROLES).policy().eviction().orElseThrow().getMaximum()).isEqualTo(1);
+        assertThat(nativeCache(CacheConfiguration.ROLES).policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofSeconds(30));
+        assertThat(nativeCache(CacheConfiguration.LINKS).policy().eviction().orElseThrow().getMaximum())
+                .isEqualTo(properties.getDefaults().getMaximumSize());
+    }
+
+    private Cache<Object, Object> nativeCache(final String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+}
@@ -2,11 +2,17 @@ package de.muenchen.refarch.configuration;
 
 import de.muenchen.refarch.MicroServiceApplication;
 import de.muenchen.refarch.TestConstants;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
+import de.muenchen.refarch.globalsettings.dto.GlobalSettingsResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -17,10 +23,14 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.util.UUID;
+
 import static de.muenchen.refarch.TestConstants.SPRING_TEST_PROFILE;
 import static de.muenchen.refarch.TestConstants.SPRING_NO_SECURITY_PROFILE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
 @Testcontainers
 @SpringBootTest(
@@ -38,11 +48,27 @@ class CacheControlConfigurationTest {
 
     private static final String ENTITY_ENDPOINT_URL = "/links";
 
+    private static final UUID LANGUAGE_ID = UUID.randomUUID();
+
+    private static final String PUBLISHED_ENDPOINT_URL = "/published/pages?languageId=" + LANGUAGE_ID;
+
     private static final String EXPECTED_CACHE_CONTROL_HEADER_VALUES = "no-cache, no-store, must-revalidate";
 
+    private static final String EXPECTED_PUBLISHED_CACHE_CONTROL_HEADER_VALUES = "public, no-cache";
+
     @Autowired
     private TestRestTemplate testRestTemplate;
 
+    @MockBean
+    private GlobalSettingsService globalSettingsService;
+
+    @BeforeEach
+    void setUp() {
+        // the published listings are capped at maxItemsPerPage, the test profile has no settings
+        when(globalSettingsService.getCurrentSettings()).thenReturn(new GlobalSettingsResponseDTO(null, null, null, null,
+                null, null, null, null, null, null, null, 10, null, null, null, null));
+    }
+
     @Test
     void testForCacheControlHeadersForEntityEndpoint() {
         final ResponseEntity<String> response = testRestTemplate.exchange(ENTITY_ENDPOINT_URL, HttpMethod.GET, null, String.class);
@@ -51,4 +77,31 @@ class CacheControlConfigurationTest {
         assertEquals(EXPECTED_CACHE_CONTROL_HEADER_VALUES, response.getHeaders().getCacheControl());
     }
 
+    @Test
+    void testForCacheControlHeadersForPublishedEndpoint() {
+        final ResponseEntity<String> response = testRestTemplate.exchange(PUBLISHED_ENDPOINT_URL, HttpMethod.GET, null, String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(EXPECTED_PUBLISHED_CACHE_CONTROL_HEADER_VALUES, response.getHeaders().getCacheControl());
+        assertNotNull(response.getHeaders().getETag());
+    }
+
+    @Test
+    void testForSurrogateKeysOnPublishedEndpoint() {
+        final ResponseEntity<String> response = testRestTemplate.exchange(PUBLISHED_ENDPOINT_URL, HttpMethod.GET, null, String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(SurrogateKeys.PAGES + " " + SurrogateKeys.language(LANGUAGE_ID),
+                response.getHeaders().getFirst(SurrogateKeys.SURROGATE_KEY_HEADER));
+    }
+
+    @Test
+    void testForNotModifiedOnMatchingETag() {
+        final String eTag = testRestTemplate.exchange(PUBLISHED_ENDPOINT_URL, HttpMethod.GET, null, String.class)
+                .getHeaders().getETag();
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        final ResponseEntity<String> response = testRestTemplate.exchange(PUBLISHED_ENDPOINT_URL, HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    }
+
 }
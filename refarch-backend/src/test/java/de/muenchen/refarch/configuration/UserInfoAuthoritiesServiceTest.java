@@ -0,0 +1,164 @@
+package de.muenchen.refarch.configuration;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link UserInfoAuthoritiesService} against a local stub userinfo endpoint.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+class UserInfoAuthoritiesServiceTest {
+
+    private static final String SUBJECT = "subject";
+    private static final String ADMIN = "ADMIN";
+    private static final String READER = "READER";
+    private static final String TOKEN = "token";
+    private static final Duration REFRESH_AFTER = Duration.ofSeconds(60);
+    private static final Duration EXPIRE_AFTER = Duration.ofMinutes(5);
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<String> lastAuthorization = new AtomicReference<>();
+    private final AtomicReference<String> authority = new AtomicReference<>(ADMIN);
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicReference<CountDownLatch> release = new AtomicReference<>(new CountDownLatch(0));
+    private final AtomicLong nanos = new AtomicLong();
+
+    private HttpServer server;
+    private UserInfoClient client;
+    private UserInfoAuthoritiesService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/userinfo", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        final SecurityProperties properties = new SecurityProperties();
+        properties.setUserInfoUri("http://localhost:" + server.getAddress().getPort() + "/userinfo");
+        properties.setUserInfoRefreshAfter(REFRESH_AFTER);
+        properties.setUserInfoExpireAfter(EXPIRE_AFTER);
+        client = new UserInfoClient(properties, new RestTemplateBuilder(), new SimpleMeterRegistry());
+        service = new UserInfoAuthoritiesService(properties, client, nanos::get);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void loadAuthorities_WhenConcurrentMisses_ShouldCallEndpointOnce() throws Exception {
+        // Arrange
+        release.set(new CountDownLatch(1));
+        final List<Future<Collection<SimpleGrantedAuthority>>> results = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS)) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(executor.submit(() -> service.loadAuthorities(jwt(TOKEN))));
+            }
+            TimeUnit.MILLISECONDS.sleep(200);
+            release.get().countDown();
+            for (final Future<Collection<SimpleGrantedAuthority>> result : results) {
+                // Assert
+                assertThat(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).containsExactly(new SimpleGrantedAuthority(ADMIN));
+            }
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void loadAuthorities_WhenStale_ShouldReturnCachedAndReloadWithLatestToken() throws InterruptedException {
+        // Arrange
+        service.loadAuthorities(jwt("first"));
+        authority.set(READER);
+        nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+
+        // Act
+        final Collection<SimpleGrantedAuthority> stale = service.loadAuthorities(jwt("second"));
+
+        // Assert
+        assertThat(stale).containsExactly(new SimpleGrantedAuthority(ADMIN));
+        awaitTrue(() -> service.loadAuthorities(jwt("second")).contains(new SimpleGrantedAuthority(READER)));
+        assertThat(calls).hasValue(2);
+        assertThat(lastAuthorization).hasValue("Bearer second");
+    }
+
+    @Test
+    void loadAuthorities_WhenReloadFails_ShouldKeepAuthoritiesUntilExpiry() throws InterruptedException {
+        // Arrange
+        service.loadAuthorities(jwt(TOKEN));
+        status.set(500);
+        nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+
+        // Act
+        service.loadAuthorities(jwt(TOKEN));
+        awaitTrue(() -> calls.get() >= 2);
+
+        // Assert
+        assertThat(service.loadAuthorities(jwt(TOKEN))).containsExactly(new SimpleGrantedAuthority(ADMIN));
+        nanos.addAndGet(EXPIRE_AFTER.toNanos());
+        assertThat(service.loadAuthorities(jwt(TOKEN))).isEmpty();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            release.get().await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        calls.incrementAndGet();
+        lastAuthorization.set(exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        final byte[] body = ("{\"authorities\":[\"" + authority.get() + "\"]}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+        exchange.sendResponseHeaders(status.get(), body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Jwt jwt(final String tokenValue) {
+        return Jwt.withTokenValue(tokenValue).header("alg", "none").subject(SUBJECT).build();
+    }
+
+    private static void awaitTrue(final Supplier<Boolean> condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.get() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertThat(condition.get()).isTrue();
+    }
+}
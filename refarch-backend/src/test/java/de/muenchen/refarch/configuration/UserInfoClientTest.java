@@ -0,0 +1,167 @@
+package de.muenchen.refarch.configuration;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.muenchen.refarch.common.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs {@link UserInfoClient} against a local stub userinfo endpoint.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+class UserInfoClientTest {
+
+    private static final String TOKEN = "token";
+    private static final int FAILURE_THRESHOLD = 2;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicReference<CountDownLatch> release = new AtomicReference<>(new CountDownLatch(0));
+    private final CountDownLatch received = new CountDownLatch(1);
+    private final AtomicLong nanos = new AtomicLong();
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private UserInfoClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/userinfo", this::respond);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        final SecurityProperties properties = new SecurityProperties();
+        properties.setUserInfoUri("http://localhost:" + server.getAddress().getPort() + "/userinfo");
+        properties.getUserInfoClient().setMaxConcurrentCalls(1);
+        properties.getUserInfoClient().setReadTimeout(READ_TIMEOUT);
+        properties.getUserInfoClient().setFailureThreshold(FAILURE_THRESHOLD);
+        properties.getUserInfoClient().setOpenDuration(OPEN_DURATION);
+        meterRegistry = new SimpleMeterRegistry();
+        client = new UserInfoClient(properties, new RestTemplateBuilder(), meterRegistry, nanos::get);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.get().countDown();
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void fetchUserInfo_ShouldReturnClaimsAndExportMetrics() {
+        // Act
+        final Map<String, Object> userInfo = client.fetchUserInfo(TOKEN);
+
+        // Assert
+        assertThat(userInfo).containsEntry("sub", "subject");
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("userinfo.client.circuit.state").gauge().value()).isZero();
+    }
+
+    @Test
+    void fetchUserInfo_WhenServerErrorsRepeat_ShouldOpenCircuitUntilTrialCall() {
+        // Arrange
+        status.set(503);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> client.fetchUserInfo(TOKEN)).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> client.fetchUserInfo(TOKEN)).isInstanceOf(ResourceAccessException.class);
+        assertThat(requests).hasValue(FAILURE_THRESHOLD);
+        assertThat(meterRegistry.get("userinfo.client.rejected").tag("reason", "circuit-open").counter().count()).isEqualTo(1);
+
+        status.set(200);
+        nanos.addAndGet(OPEN_DURATION.toNanos());
+        assertThat(client.fetchUserInfo(TOKEN)).isNotEmpty();
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void fetchUserInfo_WhenClientErrorsRepeat_ShouldKeepCircuitClosed() {
+        // Arrange
+        status.set(401);
+
+        // Act
+        for (int i = 0; i <= FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> client.fetchUserInfo(TOKEN)).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        // Assert
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void fetchUserInfo_WhenResponseIsSlow_ShouldTimeOut() {
+        // Arrange
+        release.set(new CountDownLatch(1));
+
+        // Act & Assert
+        assertThatThrownBy(() -> client.fetchUserInfo(TOKEN)).isInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    void fetchUserInfo_WhenConcurrentCallsExceedLimit_ShouldRejectWithoutCalling() throws Exception {
+        // Arrange
+        release.set(new CountDownLatch(1));
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            final Future<?> slowCall = executor.submit(() -> client.fetchUserInfo(TOKEN));
+            assertThat(received.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+            // Act & Assert
+            assertThatThrownBy(() -> client.fetchUserInfo(TOKEN)).isInstanceOf(ResourceAccessException.class);
+            assertThat(meterRegistry.get("userinfo.client.rejected").tag("reason", "bulkhead").counter().count()).isEqualTo(1);
+            release.get().countDown();
+            slowCall.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            // the slow call may time out, only the rejection matters
+            assertThat(e).hasCauseInstanceOf(ResourceAccessException.class);
+        }
+        assertThat(requests).hasValue(1);
+    }
+
+    private void respond(final HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        received.countDown();
+        try {
+            release.get().await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final byte[] body = "{\"sub\":\"subject\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status.get(), body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
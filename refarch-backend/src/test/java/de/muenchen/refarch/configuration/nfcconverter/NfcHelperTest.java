@@ -2,6 +2,7 @@ package de.muenchen.refarch.configuration.nfcconverter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import jakarta.servlet.http.Cookie;
 import java.util.Arrays;
@@ -95,6 +96,16 @@ class NfcHelperTest {
         });
     }
 
+    @Test
+    void nfcConverterAsciiPassesThrough() {
+        final String ascii = "application/json";
+        assertSame(ascii, NfcHelper.nfcConverter(ascii));
+
+        final Cookie cookie = new Cookie(NfcConverterTest.TOKEN, ascii);
+        cookie.setPath("/");
+        assertSame(cookie, NfcHelper.nfcConverter(cookie));
+    }
+
     private static Cookie createNfdCookie() {
         final Cookie nfdCookie = new Cookie(NfcConverterTest.TOKEN, Arrays.toString(NFD_INPUT));
         nfdCookie.setDomain(THIRD_NFD);
@@ -0,0 +1,65 @@
+package de.muenchen.refarch.configuration.nfcconverter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.text.Normalizer;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+class NfcReaderTest {
+
+    private static final int CHUNK_SIZE = 4;
+
+    private static final String NFD = "s\u0323\u0307o\u0302";
+
+    private static final String NFC = "\u1e69\u00f4";
+
+    private static final String HANGUL_NFD = "\u1112\u1161\u11ab";
+
+    private static final String HANGUL_NFC = "\ud55c";
+
+    @Test
+    void testConvertsCombiningSequencesAcrossChunkBorders() throws IOException {
+        assertEquals(NFC.repeat(5), read(NFD.repeat(5)));
+    }
+
+    @Test
+    void testConvertsHangulJamoAcrossChunkBorders() throws IOException {
+        assertEquals("ab" + HANGUL_NFC.repeat(3), read("ab" + HANGUL_NFD.repeat(3)));
+    }
+
+    @Test
+    void testKeepsSurrogatePairsTogether() throws IOException {
+        final String text = "a\ud834\udd1e\u0301b\ud83d\ude00c".repeat(3);
+        assertEquals(Normalizer.normalize(text, Normalizer.Form.NFC), read(text));
+    }
+
+    @Test
+    void testPassesAsciiAndNfcThrough() throws IOException {
+        final String text = "{\"title\":\"M\u00fcnchen\"}";
+        assertEquals(text, read(text));
+    }
+
+    @Test
+    void testFlushesCombiningSequencesLongerThanChunk() throws IOException {
+        final String text = "a" + "\u0301".repeat(10) + "b";
+        assertEquals(Normalizer.normalize(text, Normalizer.Form.NFC), read(text));
+    }
+
+    @Test
+    void testDefaultChunkSize() throws IOException {
+        final String text = ("x" + NFD).repeat(NfcReader.DEFAULT_CHUNK_SIZE);
+        try (Reader reader = new NfcReader(new StringReader(text))) {
+            assertEquals(("x" + NFC).repeat(NfcReader.DEFAULT_CHUNK_SIZE), IOUtils.toString(reader));
+        }
+    }
+
+    private static String read(final String text) throws IOException {
+        try (Reader reader = new NfcReader(new StringReader(text), CHUNK_SIZE)) {
+            return IOUtils.toString(reader);
+        }
+    }
+}
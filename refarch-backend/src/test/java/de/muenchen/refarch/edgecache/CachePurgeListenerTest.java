@@ -0,0 +1,34 @@
+package de.muenchen.refarch.edgecache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachePurgeListenerTest {
+
+    private InMemoryCachePurger cachePurger;
+    private CachePurgeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cachePurger = new InMemoryCachePurger();
+        listener = new CachePurgeListener(cachePurger);
+    }
+
+    @Test
+    void onCachePurgeEvent_ShouldPurgeAllKeys() {
+        listener.onCachePurgeEvent(CachePurgeEvent.of("page:1", SurrogateKeys.PAGES));
+
+        assertThat(cachePurger.purges()).containsExactly(Set.of("page:1", SurrogateKeys.PAGES));
+    }
+
+    @Test
+    void onCachePurgeEvent_WhenNoKeys_ShouldNotPurge() {
+        listener.onCachePurgeEvent(CachePurgeEvent.of());
+
+        assertThat(cachePurger.purges()).isEmpty();
+    }
+}
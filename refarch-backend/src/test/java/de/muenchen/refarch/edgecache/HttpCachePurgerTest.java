@@ -0,0 +1,72 @@
+package de.muenchen.refarch.edgecache;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.muenchen.refarch.configuration.EdgeCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Runs {@link HttpCachePurger} against a local stub proxy.
+ */
+class HttpCachePurgerTest {
+
+    private final AtomicReference<String> method = new AtomicReference<>();
+    private final AtomicReference<String> keys = new AtomicReference<>();
+    private final AtomicInteger status = new AtomicInteger(200);
+
+    private HttpServer server;
+    private HttpCachePurger purger;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::respond);
+        server.start();
+
+        final EdgeCacheProperties properties = new EdgeCacheProperties();
+        properties.setPurgeUri(URI.create("http://localhost:" + server.getAddress().getPort() + "/"));
+        purger = new HttpCachePurger(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        purger.close();
+        server.stop(0);
+    }
+
+    @Test
+    void purge_ShouldSendPurgeRequestWithKeys() {
+        purger.purge(new LinkedHashSet<>(List.of("page:1", SurrogateKeys.PAGES)));
+
+        assertThat(method.get()).isEqualTo(HttpCachePurger.PURGE);
+        assertThat(keys.get()).isEqualTo("page:1 pages");
+    }
+
+    @Test
+    void purge_WhenProxyFails_ShouldNotThrow() {
+        status.set(500);
+
+        assertThatCode(() -> purger.purge(new LinkedHashSet<>(List.of("page:1")))).doesNotThrowAnyException();
+    }
+
+    private void respond(final HttpExchange exchange) throws IOException {
+        method.set(exchange.getRequestMethod());
+        keys.set(exchange.getRequestHeaders().getFirst(SurrogateKeys.SURROGATE_KEY_HEADER));
+        exchange.sendResponseHeaders(status.get(), -1);
+        exchange.close();
+    }
+}
@@ -0,0 +1,29 @@
+package de.muenchen.refarch.edgecache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test double of {@link CachePurger}, remembers all purges instead of sending them to a proxy.
+ */
+public class InMemoryCachePurger implements CachePurger {
+
+    private final List<Set<String>> purges = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void purge(final Set<String> keys) {
+        purges.add(Set.copyOf(keys));
+    }
+
+    /**
+     * Returns the keys of all purges, oldest first.
+     */
+    public List<Set<String>> purges() {
+        return List.copyOf(purges);
+    }
+
+    public void clear() {
+        purges.clear();
+    }
+}
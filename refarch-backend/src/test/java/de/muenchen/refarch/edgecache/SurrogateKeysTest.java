@@ -0,0 +1,24 @@
+package de.muenchen.refarch.edgecache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SurrogateKeysTest {
+
+    @Test
+    void headers_ShouldListKeysInBothHeaders() {
+        final UUID pageId = UUID.randomUUID();
+        final UUID languageId = UUID.randomUUID();
+
+        final HttpHeaders headers = SurrogateKeys.headers(
+                List.of(SurrogateKeys.page(pageId), SurrogateKeys.language(languageId)));
+
+        assertThat(headers.getFirst(SurrogateKeys.SURROGATE_KEY_HEADER)).isEqualTo("page:" + pageId + " lang:" + languageId);
+        assertThat(headers.getFirst(SurrogateKeys.CACHE_TAG_HEADER)).isEqualTo("page:" + pageId + ",lang:" + languageId);
+    }
+}
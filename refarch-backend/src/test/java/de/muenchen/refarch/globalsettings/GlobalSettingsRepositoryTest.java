@@ -139,4 +139,28 @@ class GlobalSettingsRepositoryTest {
         assertThat(persistedSettings.getSsoAuthEnabled()).isTrue();
         assertThat(persistedSettings.getPasswordAuthEnabled()).isFalse();
     }
+
+    @Test
+    void findLastUpdate_AfterFlushedUpdate_ShouldEqualInMemoryTimestamp() {
+        // Create and persist initial settings
+        final GlobalSettings settings = new GlobalSettings();
+        settings.setSessionDurationMinutes(480);
+        settings.setWebsiteName(INITIAL_WEBSITE_NAME);
+        settings.setGlobalCommentsEnabled(true);
+        settings.setMaintenanceMode(false);
+        settings.setMaxUploadSizeMb(10);
+        settings.setDefaultLanguage(DEFAULT_LANGUAGE);
+        settings.setMaxItemsPerPage(20);
+        settings.setSsoAuthEnabled(false);
+        settings.setPasswordAuthEnabled(true);
+        entityManager.persist(settings);
+        entityManager.flush();
+
+        // Update settings
+        settings.setWebsiteName(UPDATED_WEBSITE_NAME);
+        final GlobalSettings updatedSettings = globalSettingsRepository.saveAndFlush(settings);
+
+        // The polled timestamp must match the one held in memory, otherwise the own change looks foreign
+        assertThat(globalSettingsRepository.findLastUpdate()).isEqualTo(updatedSettings.getUpdatedAt());
+    }
 }
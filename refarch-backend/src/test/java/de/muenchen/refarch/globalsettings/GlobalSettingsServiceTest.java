@@ -20,6 +20,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -121,7 +123,7 @@ class GlobalSettingsServiceTest {
     @Test
     void shouldUpdateAndPublishSettings() {
         when(globalSettingsRepository.findAll()).thenReturn(List.of(settings));
-        when(globalSettingsRepository.save(any(GlobalSettings.class))).thenReturn(settings);
+        when(globalSettingsRepository.saveAndFlush(any(GlobalSettings.class))).thenReturn(settings);
 
         final GlobalSettingsResponseDTO result = globalSettingsService.updateSettings(requestDTO);
 
@@ -130,4 +132,47 @@ class GlobalSettingsServiceTest {
         assertThat(result.sessionDurationMinutes()).isEqualTo(480);
         verify(eventPublisher).publishEvent(any(GlobalSettingsChangedEvent.class));
     }
+
+    @Test
+    void shouldServeSettingsFromSnapshot() {
+        when(globalSettingsRepository.findAll()).thenReturn(List.of(settings));
+
+        final GlobalSettingsResponseDTO first = globalSettingsService.getCurrentSettings();
+        final GlobalSettingsResponseDTO second = globalSettingsService.getCurrentSettings();
+
+        assertThat(second).isSameAs(first);
+        verify(globalSettingsRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldReplaceSnapshotOnSettingsChanged() {
+        settings.setWebsiteName("Changed Website");
+
+        globalSettingsService.onGlobalSettingsChanged(new GlobalSettingsChangedEvent(settings));
+
+        assertThat(globalSettingsService.getCurrentSettings().websiteName()).isEqualTo("Changed Website");
+        verify(globalSettingsRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldPublishChangeWhenSettingsWereUpdatedElsewhere() {
+        globalSettingsService.onGlobalSettingsChanged(new GlobalSettingsChangedEvent(settings));
+        when(globalSettingsRepository.findLastUpdate()).thenReturn(now.plusMinutes(1));
+        when(globalSettingsRepository.findAll()).thenReturn(List.of(settings));
+
+        globalSettingsService.refreshIfChanged();
+
+        verify(eventPublisher).publishEvent(any(GlobalSettingsChangedEvent.class));
+    }
+
+    @Test
+    void shouldNotReloadWhenSettingsAreUnchanged() {
+        globalSettingsService.onGlobalSettingsChanged(new GlobalSettingsChangedEvent(settings));
+        when(globalSettingsRepository.findLastUpdate()).thenReturn(now);
+
+        globalSettingsService.refreshIfChanged();
+
+        verify(globalSettingsRepository, never()).findAll();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
 }
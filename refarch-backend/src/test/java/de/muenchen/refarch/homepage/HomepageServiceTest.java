@@ -1,5 +1,7 @@
 package de.muenchen.refarch.homepage;
 
+import de.muenchen.refarch.edgecache.CachePurgeEvent;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
 import de.muenchen.refarch.homepage.content.HomepageContent;
 import de.muenchen.refarch.homepage.content.HomepageContentRepository;
 import de.muenchen.refarch.homepage.content.dto.HomepageContentRequestDTO;
@@ -8,9 +10,12 @@ import de.muenchen.refarch.homepage.dto.HomepageRequestDTO;
 import de.muenchen.refarch.homepage.dto.HomepageResponseDTO;
 import de.muenchen.refarch.language.Language;
 import de.muenchen.refarch.language.LanguageService;
+import de.muenchen.refarch.language.dto.LanguageResponseDTO;
 import de.muenchen.refarch.link.Link;
 import de.muenchen.refarch.link.LinkScope;
 import de.muenchen.refarch.link.LinkService;
+import de.muenchen.refarch.link.dto.LinkResponseDTO;
+import de.muenchen.refarch.publishedcontent.PublishedContentService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -44,6 +50,12 @@ class HomepageServiceTest {
     @Mock
     private LanguageService languageService;
 
+    @Mock
+    private PublishedContentService publishedContentService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private HomepageService homepageService;
 
@@ -53,6 +65,8 @@ class HomepageServiceTest {
     private Homepage homepage;
     private Link link;
     private Language language;
+    private LinkResponseDTO linkDTO;
+    private LanguageResponseDTO languageDTO;
     private HomepageContent content;
     private HomepageRequestDTO homepageRequestDTO;
     private HomepageContentRequestDTO contentRequestDTO;
@@ -77,6 +91,9 @@ class HomepageServiceTest {
         language.setFontAwesomeIcon("flag-usa");
         language.setMdiIcon("flag");
 
+        linkDTO = new LinkResponseDTO(linkId, "https://example.com", "Example Link", null, null, null, LinkScope.EXTERNAL);
+        languageDTO = new LanguageResponseDTO(languageId, "English", "en", "flag-usa", "flag");
+
         homepage = new Homepage();
         homepage.setId(homepageId);
         homepage.setLink(link);
@@ -152,7 +169,8 @@ class HomepageServiceTest {
 
     @Test
     void create_ShouldCreateHomepage() {
-        when(linkService.getById(linkId)).thenReturn(link);
+        when(linkService.findById(linkId)).thenReturn(linkDTO);
+        when(linkService.getReference(linkDTO)).thenReturn(link);
         when(homepageRepository.save(any(Homepage.class))).thenReturn(homepage);
 
         final HomepageResponseDTO result = homepageService.create(homepageRequestDTO);
@@ -160,21 +178,22 @@ class HomepageServiceTest {
         assertThat(result.id()).isEqualTo(homepageId);
         assertThat(result.linkId()).isEqualTo(linkId);
         assertThat(result.thumbnail()).isEqualTo("thumbnail.jpg");
-        verify(linkService).getById(linkId);
+        verify(linkService).findById(linkId);
         verify(homepageRepository).save(any(Homepage.class));
     }
 
     @Test
     void update_WhenHomepageExists_ShouldUpdateHomepage() {
         when(homepageRepository.findById(homepageId)).thenReturn(Optional.of(homepage));
-        when(linkService.getById(linkId)).thenReturn(link);
+        when(linkService.findById(linkId)).thenReturn(linkDTO);
+        when(linkService.getReference(linkDTO)).thenReturn(link);
         when(homepageRepository.save(any(Homepage.class))).thenReturn(homepage);
 
         final HomepageResponseDTO result = homepageService.update(homepageId, homepageRequestDTO);
 
         assertThat(result.id()).isEqualTo(homepageId);
         verify(homepageRepository).findById(homepageId);
-        verify(linkService).getById(linkId);
+        verify(linkService).findById(linkId);
         verify(homepageRepository).save(any(Homepage.class));
     }
 
@@ -189,6 +208,7 @@ class HomepageServiceTest {
         verify(homepageRepository).findById(homepageId);
         verify(homepageContentRepository).deleteAll(homepage.getContents());
         verify(homepageRepository).delete(homepage);
+        verify(eventPublisher).publishEvent(CachePurgeEvent.of(SurrogateKeys.homepage(homepageId), SurrogateKeys.HOMEPAGES));
     }
 
     @Test
@@ -216,7 +236,8 @@ class HomepageServiceTest {
     @Test
     void createContent_WhenContentDoesNotExist_ShouldCreateContent() {
         when(homepageRepository.findById(homepageId)).thenReturn(Optional.of(homepage));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
+        when(languageService.getReference(languageDTO)).thenReturn(language);
         when(homepageContentRepository.existsByHomepageIdAndLanguageId(homepageId, languageId)).thenReturn(false);
         when(homepageContentRepository.save(any(HomepageContent.class))).thenReturn(content);
 
@@ -224,7 +245,7 @@ class HomepageServiceTest {
 
         assertThat(result.id()).isEqualTo(content.getId());
         verify(homepageRepository).findById(homepageId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(homepageContentRepository).existsByHomepageIdAndLanguageId(homepageId, languageId);
         verify(homepageContentRepository).save(any(HomepageContent.class));
     }
@@ -232,7 +253,7 @@ class HomepageServiceTest {
     @Test
     void createContent_WhenContentExists_ShouldThrowException() {
         when(homepageRepository.findById(homepageId)).thenReturn(Optional.of(homepage));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
         when(homepageContentRepository.existsByHomepageIdAndLanguageId(homepageId, languageId)).thenReturn(true);
 
         assertThatThrownBy(() -> homepageService.createContent(homepageId, contentRequestDTO))
@@ -240,7 +261,7 @@ class HomepageServiceTest {
                 .hasMessage(String.format("Content already exists for homepage %s and language %s",
                         homepageId, language.getAbbreviation()));
         verify(homepageRepository).findById(homepageId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(homepageContentRepository).existsByHomepageIdAndLanguageId(homepageId, languageId);
         verify(homepageContentRepository, never()).save(any(HomepageContent.class));
     }
@@ -1,5 +1,7 @@
 package de.muenchen.refarch.language;
 
+import de.muenchen.refarch.edgecache.CachePurgeEvent;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
 import de.muenchen.refarch.language.dto.LanguageRequestDTO;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +34,9 @@ class LanguageServiceTest {
     @Mock
     private LanguageRepository languageRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LanguageService languageService;
 
@@ -122,6 +128,7 @@ class LanguageServiceTest {
         verify(languageRepository).findById(languageId);
         verify(languageRepository).existsByAbbreviation(requestDTO.abbreviation());
         verify(languageRepository).save(any(Language.class));
+        verify(eventPublisher).publishEvent(CachePurgeEvent.of(SurrogateKeys.language(languageId)));
     }
 
     @Test
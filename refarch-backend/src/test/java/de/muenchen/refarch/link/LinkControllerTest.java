@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.muenchen.refarch.MicroServiceApplication;
 import de.muenchen.refarch.TestConstants;
 import de.muenchen.refarch.config.TestConfig;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
 import de.muenchen.refarch.link.dto.LinkRequestDTO;
 import de.muenchen.refarch.link.dto.LinkResponseDTO;
 import org.junit.jupiter.api.BeforeEach;
@@ -113,7 +114,9 @@ class LinkControllerTest {
                 .andExpect(jsonPath("$[0].fontAwesomeIcon").value(FONT_AWESOME_ICON))
                 .andExpect(jsonPath("$[0].mdiIcon").value(MDI_ICON))
                 .andExpect(jsonPath("$[0].type").value(NAVIGATION_TYPE))
-                .andExpect(jsonPath("$[0].scope").value("EXTERNAL"));
+                .andExpect(jsonPath("$[0].scope").value("EXTERNAL"))
+                .andExpect(header().string(SurrogateKeys.SURROGATE_KEY_HEADER, SurrogateKeys.LINKS))
+                .andExpect(header().string(SurrogateKeys.CACHE_TAG_HEADER, SurrogateKeys.LINKS));
 
         verify(linkService).getAllLinks();
     }
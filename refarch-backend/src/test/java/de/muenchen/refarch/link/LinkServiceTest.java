@@ -1,5 +1,7 @@
 package de.muenchen.refarch.link;
 
+import de.muenchen.refarch.edgecache.CachePurgeEvent;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
 import de.muenchen.refarch.link.dto.LinkRequestDTO;
 import de.muenchen.refarch.link.dto.LinkResponseDTO;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,8 +10,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,6 +26,9 @@ class LinkServiceTest {
     @Mock
     private LinkRepository linkRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LinkService linkService;
 
@@ -70,6 +77,16 @@ class LinkServiceTest {
         verify(linkRepository).findAll();
     }
 
+    @Test
+    void shouldReturnLinkById() {
+        when(linkRepository.findById(link.getId())).thenReturn(Optional.of(link));
+
+        final LinkResponseDTO result = linkService.findById(link.getId());
+
+        assertThat(result).isEqualTo(responseDTO);
+        verify(linkRepository).findById(link.getId());
+    }
+
     @Test
     void shouldCreateLink() {
         when(linkRepository.save(any(Link.class))).thenReturn(link);
@@ -78,5 +95,16 @@ class LinkServiceTest {
 
         assertThat(result).isEqualTo(responseDTO);
         verify(linkRepository).save(any(Link.class));
+        verify(eventPublisher).publishEvent(CachePurgeEvent.of(SurrogateKeys.LINKS));
+    }
+
+    @Test
+    void shouldPurgeLinkOnUpdate() {
+        when(linkRepository.findById(link.getId())).thenReturn(Optional.of(link));
+        when(linkRepository.save(any(Link.class))).thenReturn(link);
+
+        linkService.updateLink(link.getId(), requestDTO);
+
+        verify(eventPublisher).publishEvent(CachePurgeEvent.of(SurrogateKeys.link(link.getId()), SurrogateKeys.LINKS));
     }
 }
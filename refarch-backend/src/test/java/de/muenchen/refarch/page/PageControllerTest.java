@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.muenchen.refarch.MicroServiceApplication;
 import de.muenchen.refarch.TestConstants;
 import de.muenchen.refarch.config.TestConfig;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
 import de.muenchen.refarch.language.Language;
 import de.muenchen.refarch.language.LanguageService;
 import de.muenchen.refarch.link.Link;
@@ -35,6 +36,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -135,6 +137,7 @@ class PageControllerTest {
                 TEST_LINK_URL,
                 true,
                 true,
+                0,
                 Set.of(),
                 now,
                 now);
@@ -186,7 +189,9 @@ class PageControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(pageId.toString()))
                 .andExpect(jsonPath("$.linkId").value(linkId.toString()))
-                .andExpect(jsonPath("$.thumbnail").value(TEST_LINK_URL));
+                .andExpect(jsonPath("$.thumbnail").value(TEST_LINK_URL))
+                .andExpect(header().string(SurrogateKeys.SURROGATE_KEY_HEADER,
+                        startsWith(SurrogateKeys.page(pageId) + " " + SurrogateKeys.link(linkId))));
 
         verify(pageService).findById(pageId);
     }
@@ -0,0 +1,146 @@
+package de.muenchen.refarch.page;
+
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
+import de.muenchen.refarch.language.Language;
+import de.muenchen.refarch.language.LanguageService;
+import de.muenchen.refarch.link.Link;
+import de.muenchen.refarch.link.LinkScope;
+import de.muenchen.refarch.link.LinkService;
+import de.muenchen.refarch.page.content.PageContent;
+import de.muenchen.refarch.page.dto.PageResponseDTO;
+import de.muenchen.refarch.publishedcontent.PublishedContentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards {@link PageService} against N+1 regressions: reading pages must issue a constant number of
+ * SQL statements, no matter how many pages, contents and languages exist.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Import({ PageService.class, LinkService.class, LanguageService.class })
+class PageQueryCountTest {
+
+    @Container
+    /* default */ static final PostgreSQLContainer<?> POSTGRESQL_CONTAINER = new PostgreSQLContainer<>("postgres:latest");
+
+    @MockBean
+    private GlobalSettingsService globalSettingsService;
+
+    @MockBean
+    private PublishedContentService publishedContentService;
+
+    @Autowired
+    private PageService pageService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @DynamicPropertySource
+    /* default */ static void setProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRESQL_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRESQL_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRESQL_CONTAINER::getPassword);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 5, 20 })
+    void findAll_ShouldIssueSingleStatementRegardlessOfPageCount(final int pageCount) {
+        // Arrange
+        final Language english = persistLanguage("English", "en");
+        final Language german = persistLanguage("German", "de");
+        for (int i = 0; i < pageCount; i++) {
+            persistPage(i, english, german);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        final List<PageResponseDTO> pages = pageService.findAll();
+
+        // Assert
+        assertThat(pages).hasSize(pageCount);
+        assertThat(pages).allSatisfy(page -> assertThat(page.contents()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_ShouldIssueSingleStatement() {
+        // Arrange
+        final Language english = persistLanguage("English", "en");
+        final Language german = persistLanguage("German", "de");
+        final Page page = persistPage(0, english, german);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        final PageResponseDTO result = pageService.findById(page.getId());
+
+        // Assert
+        assertThat(result.contents()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Language persistLanguage(final String name, final String abbreviation) {
+        final Language language = new Language();
+        language.setName(name);
+        language.setAbbreviation(abbreviation);
+        language.setFontAwesomeIcon("fa-flag");
+        language.setMdiIcon("mdi-flag");
+        return entityManager.persist(language);
+    }
+
+    private Page persistPage(final int index, final Language... languages) {
+        final Link link = new Link();
+        link.setUrl("/page-" + index);
+        link.setScope(LinkScope.INTERNAL);
+        entityManager.persist(link);
+
+        final Page page = new Page();
+        page.setLink(link);
+        page.setCommentsEnabled(true);
+        page.setPublished(true);
+        for (final Language language : languages) {
+            final PageContent content = new PageContent();
+            content.setLanguage(language);
+            content.setTitle("Title " + index + " " + language.getAbbreviation());
+            content.setContent("Content " + index);
+            page.addContent(content);
+        }
+        return entityManager.persist(page);
+    }
+}
@@ -1,10 +1,20 @@
 package de.muenchen.refarch.page;
 
+import de.muenchen.refarch.common.BadRequestException;
+import de.muenchen.refarch.common.CursorPage;
+import de.muenchen.refarch.common.KeysetCursor;
+import de.muenchen.refarch.edgecache.CachePurgeEvent;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
+import de.muenchen.refarch.globalsettings.dto.GlobalSettingsResponseDTO;
 import de.muenchen.refarch.language.Language;
 import de.muenchen.refarch.language.LanguageService;
+import de.muenchen.refarch.language.dto.LanguageResponseDTO;
 import de.muenchen.refarch.link.Link;
 import de.muenchen.refarch.link.LinkScope;
 import de.muenchen.refarch.link.LinkService;
+import de.muenchen.refarch.link.dto.LinkResponseDTO;
+import de.muenchen.refarch.publishedcontent.PublishedContentService;
 import de.muenchen.refarch.page.content.PageContent;
 import de.muenchen.refarch.page.content.PageContentRepository;
 import de.muenchen.refarch.page.dto.PageRequestDTO;
@@ -18,6 +28,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,9 +39,11 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "PMD.TooManyFields", "PMD.CouplingBetweenObjects" })
 class PageServiceTest {
 
     @Mock
@@ -44,6 +58,15 @@ class PageServiceTest {
     @Mock
     private LanguageService languageService;
 
+    @Mock
+    private GlobalSettingsService globalSettingsService;
+
+    @Mock
+    private PublishedContentService publishedContentService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PageService pageService;
 
@@ -53,6 +76,8 @@ class PageServiceTest {
     private Page page;
     private Link link;
     private Language language;
+    private LinkResponseDTO linkDTO;
+    private LanguageResponseDTO languageDTO;
     private PageContent pageContent;
     private PageRequestDTO pageRequestDTO;
     private PageContentRequestDTO contentRequestDTO;
@@ -76,6 +101,9 @@ class PageServiceTest {
         language.setName("English");
         language.setAbbreviation("en");
 
+        linkDTO = new LinkResponseDTO(linkId, "https://example.com", "Example Link", null, null, null, LinkScope.EXTERNAL);
+        languageDTO = new LanguageResponseDTO(languageId, "English", "en", null, null);
+
         page = new Page();
         page.setId(pageId);
         page.setLink(link);
@@ -111,38 +139,39 @@ class PageServiceTest {
 
     @Test
     void findAll_ShouldReturnAllPages() {
-        when(pageRepository.findAll()).thenReturn(List.of(page));
+        when(pageRepository.findAllWithContents()).thenReturn(List.of(page));
 
         final List<PageResponseDTO> result = pageService.findAll();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).id()).isEqualTo(pageId);
-        verify(pageRepository).findAll();
+        verify(pageRepository).findAllWithContents();
     }
 
     @Test
     void findById_WhenPageExists_ShouldReturnPage() {
-        when(pageRepository.findById(pageId)).thenReturn(Optional.of(page));
+        when(pageRepository.findByIdWithContents(pageId)).thenReturn(Optional.of(page));
 
         final PageResponseDTO result = pageService.findById(pageId);
 
         assertThat(result.id()).isEqualTo(pageId);
-        verify(pageRepository).findById(pageId);
+        verify(pageRepository).findByIdWithContents(pageId);
     }
 
     @Test
     void findById_WhenPageDoesNotExist_ShouldThrowException() {
-        when(pageRepository.findById(pageId)).thenReturn(Optional.empty());
+        when(pageRepository.findByIdWithContents(pageId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> pageService.findById(pageId))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("Page not found with id: " + pageId);
-        verify(pageRepository).findById(pageId);
+        verify(pageRepository).findByIdWithContents(pageId);
     }
 
     @Test
     void create_ShouldCreatePage() {
-        when(linkService.getById(linkId)).thenReturn(link);
+        when(linkService.findById(linkId)).thenReturn(linkDTO);
+        when(linkService.getReference(linkDTO)).thenReturn(link);
         when(pageRepository.save(any(Page.class))).thenReturn(page);
 
         final PageResponseDTO result = pageService.create(pageRequestDTO);
@@ -151,22 +180,24 @@ class PageServiceTest {
         assertThat(result.linkId()).isEqualTo(linkId);
         assertThat(result.thumbnail()).isEqualTo("thumbnail.jpg");
         assertThat(result.commentsEnabled()).isTrue();
-        verify(linkService).getById(linkId);
+        verify(linkService).findById(linkId);
         verify(pageRepository).save(any(Page.class));
     }
 
     @Test
     void update_WhenPageExists_ShouldUpdatePage() {
         when(pageRepository.findById(pageId)).thenReturn(Optional.of(page));
-        when(linkService.getById(linkId)).thenReturn(link);
+        when(linkService.findById(linkId)).thenReturn(linkDTO);
+        when(linkService.getReference(linkDTO)).thenReturn(link);
         when(pageRepository.save(any(Page.class))).thenReturn(page);
 
         final PageResponseDTO result = pageService.update(pageId, pageRequestDTO);
 
         assertThat(result.id()).isEqualTo(pageId);
         verify(pageRepository).findById(pageId);
-        verify(linkService).getById(linkId);
+        verify(linkService).findById(linkId);
         verify(pageRepository).save(any(Page.class));
+        verify(publishedContentService).publishPage(any(PageResponseDTO.class));
     }
 
     @Test
@@ -180,6 +211,8 @@ class PageServiceTest {
         verify(pageRepository).findById(pageId);
         verify(pageContentRepository).deleteAll(page.getContents());
         verify(pageRepository).delete(page);
+        verify(publishedContentService).removePage(pageId);
+        verify(eventPublisher).publishEvent(CachePurgeEvent.of(SurrogateKeys.page(pageId), SurrogateKeys.PAGES));
     }
 
     @Test
@@ -206,34 +239,35 @@ class PageServiceTest {
         page.addContent(pageContent);
         page.addContent(secondContent);
 
-        when(pageRepository.findById(pageId)).thenReturn(Optional.of(page));
+        when(pageRepository.findByIdWithContents(pageId)).thenReturn(Optional.of(page));
 
         final List<PageContentResponseDTO> result = pageService.findAllContentByPage(pageId);
 
         assertThat(result).hasSize(2);
         assertThat(result).extracting("title")
                 .containsExactlyInAnyOrder("Test Title", "Second Title");
-        verify(pageRepository).findById(pageId);
+        verify(pageRepository).findByIdWithContents(pageId);
     }
 
     @Test
     void findContentByPageAndLanguage_WhenContentExists_ShouldReturnContent() {
         when(pageRepository.findById(pageId)).thenReturn(Optional.of(page));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
         when(pageContentRepository.findByPageIdAndLanguageId(pageId, languageId)).thenReturn(Optional.of(pageContent));
 
         final PageContentResponseDTO result = pageService.findContentByPageAndLanguage(pageId, languageId);
 
         assertThat(result.id()).isEqualTo(pageContent.getId());
         verify(pageRepository).findById(pageId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(pageContentRepository).findByPageIdAndLanguageId(pageId, languageId);
     }
 
     @Test
     void createContent_WhenContentDoesNotExist_ShouldCreateContent() {
         when(pageRepository.findById(pageId)).thenReturn(Optional.of(page));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
+        when(languageService.getReference(languageDTO)).thenReturn(language);
         when(pageContentRepository.existsByPageIdAndLanguageId(pageId, languageId)).thenReturn(false);
         when(pageContentRepository.save(any(PageContent.class))).thenReturn(pageContent);
 
@@ -241,7 +275,7 @@ class PageServiceTest {
 
         assertThat(result.id()).isEqualTo(pageContent.getId());
         verify(pageRepository).findById(pageId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(pageContentRepository).existsByPageIdAndLanguageId(pageId, languageId);
         verify(pageContentRepository).save(any(PageContent.class));
     }
@@ -249,14 +283,14 @@ class PageServiceTest {
     @Test
     void createContent_WhenContentExists_ShouldThrowException() {
         when(pageRepository.findById(pageId)).thenReturn(Optional.of(page));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
         when(pageContentRepository.existsByPageIdAndLanguageId(pageId, languageId)).thenReturn(true);
 
         assertThatThrownBy(() -> pageService.createContent(pageId, contentRequestDTO))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage(String.format("Content already exists for page %s and language %s", pageId, language.getAbbreviation()));
         verify(pageRepository).findById(pageId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(pageContentRepository).existsByPageIdAndLanguageId(pageId, languageId);
         verify(pageContentRepository, never()).save(any(PageContent.class));
     }
@@ -264,7 +298,7 @@ class PageServiceTest {
     @Test
     void updateContent_WhenContentExists_ShouldUpdateContent() {
         when(pageRepository.findById(pageId)).thenReturn(Optional.of(page));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
         when(pageContentRepository.findByPageIdAndLanguageId(pageId, languageId)).thenReturn(Optional.of(pageContent));
         when(pageContentRepository.save(any(PageContent.class))).thenReturn(pageContent);
 
@@ -272,7 +306,7 @@ class PageServiceTest {
 
         assertThat(result.id()).isEqualTo(pageContent.getId());
         verify(pageRepository).findById(pageId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(pageContentRepository).findByPageIdAndLanguageId(pageId, languageId);
         verify(pageContentRepository).save(any(PageContent.class));
     }
@@ -290,4 +324,48 @@ class PageServiceTest {
         verify(pageContentRepository).findByPageIdAndLanguageId(pageId, languageId);
         verify(pageContentRepository).delete(pageContent);
     }
+
+    @Test
+    void findPage_WhenMoreResultsExist_ShouldReturnSliceWithNextCursor() {
+        when(globalSettingsService.getCurrentSettings()).thenReturn(settingsWithMaxItemsPerPage(10));
+        final Page second = new Page();
+        second.setId(UUID.randomUUID());
+        second.setLink(link);
+        second.setCreatedAt(now.minusMinutes(1));
+        final UUID secondId = UUID.randomUUID();
+        when(pageRepository.findIdsByKeyset(isNull(), isNull(), isNull(), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(pageId, secondId));
+        when(pageRepository.findAllWithContentsByIdIn(List.of(pageId, secondId))).thenReturn(List.of(page, second));
+
+        final CursorPage<PageResponseDTO> result = pageService.findPage(null, 1, null, null, null);
+
+        assertThat(result.items()).extracting(PageResponseDTO::id).containsExactly(pageId);
+        assertThat(KeysetCursor.decode(result.nextCursor())).isEqualTo(new KeysetCursor(now, pageId));
+        verify(pageRepository).findIdsByKeyset(null, null, null, null, null, Limit.of(2));
+    }
+
+    @Test
+    void findPage_WhenLastSlice_ShouldCapSizeAndReturnNoCursor() {
+        when(globalSettingsService.getCurrentSettings()).thenReturn(settingsWithMaxItemsPerPage(10));
+        when(pageRepository.findIdsByKeyset(true, LinkScope.EXTERNAL, languageId, now, pageId, Limit.of(11)))
+                .thenReturn(List.of(pageId));
+        when(pageRepository.findAllWithContentsByIdIn(List.of(pageId))).thenReturn(List.of(page));
+
+        final String cursor = new KeysetCursor(now, pageId).encode();
+        final CursorPage<PageResponseDTO> result = pageService.findPage(cursor, 50, true, languageId, LinkScope.EXTERNAL);
+
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void findPage_WhenCursorIsMalformed_ShouldThrowException() {
+        assertThatThrownBy(() -> pageService.findPage("not-a-cursor", null, null, null, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private GlobalSettingsResponseDTO settingsWithMaxItemsPerPage(final int maxItemsPerPage) {
+        return new GlobalSettingsResponseDTO(null, null, null, null, null, null, null, null, null, null, null,
+                maxItemsPerPage, null, null, null, null);
+    }
 }
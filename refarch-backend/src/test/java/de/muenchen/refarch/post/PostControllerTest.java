@@ -135,6 +135,7 @@ class PostControllerTest {
                 THUMBNAIL_PATH,
                 true,
                 true,
+                0,
                 now,
                 now);
 
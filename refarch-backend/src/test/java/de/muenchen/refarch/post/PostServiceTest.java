@@ -1,10 +1,20 @@
 package de.muenchen.refarch.post;
 
+import de.muenchen.refarch.common.BadRequestException;
+import de.muenchen.refarch.common.CursorPage;
+import de.muenchen.refarch.common.KeysetCursor;
+import de.muenchen.refarch.edgecache.CachePurgeEvent;
+import de.muenchen.refarch.edgecache.SurrogateKeys;
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
+import de.muenchen.refarch.globalsettings.dto.GlobalSettingsResponseDTO;
 import de.muenchen.refarch.language.Language;
 import de.muenchen.refarch.language.LanguageService;
+import de.muenchen.refarch.language.dto.LanguageResponseDTO;
 import de.muenchen.refarch.link.Link;
 import de.muenchen.refarch.link.LinkScope;
 import de.muenchen.refarch.link.LinkService;
+import de.muenchen.refarch.link.dto.LinkResponseDTO;
+import de.muenchen.refarch.publishedcontent.PublishedContentService;
 import de.muenchen.refarch.post.content.PostContent;
 import de.muenchen.refarch.post.content.PostContentRepository;
 import de.muenchen.refarch.post.dto.PostRequestDTO;
@@ -18,6 +28,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,9 +39,11 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "PMD.TooManyFields", "PMD.CouplingBetweenObjects" })
 class PostServiceTest {
 
     @Mock
@@ -44,6 +58,15 @@ class PostServiceTest {
     @Mock
     private LanguageService languageService;
 
+    @Mock
+    private GlobalSettingsService globalSettingsService;
+
+    @Mock
+    private PublishedContentService publishedContentService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PostService postService;
 
@@ -53,6 +76,8 @@ class PostServiceTest {
     private Post post;
     private Link link;
     private Language language;
+    private LinkResponseDTO linkDTO;
+    private LanguageResponseDTO languageDTO;
     private PostContent postContent;
     private PostRequestDTO postRequestDTO;
     private PostContentRequestDTO contentRequestDTO;
@@ -76,11 +101,15 @@ class PostServiceTest {
         language.setName("English");
         language.setAbbreviation("en");
 
+        linkDTO = new LinkResponseDTO(linkId, "https://example.com", "Example Link", null, null, null, LinkScope.EXTERNAL);
+        languageDTO = new LanguageResponseDTO(languageId, "English", "en", null, null);
+
         post = new Post();
         post.setId(postId);
         post.setLink(link);
         post.setThumbnail("thumbnail.jpg");
         post.setCommentsEnabled(true);
+        post.setCreatedAt(now);
 
         postContent = new PostContent();
         postContent.setId(UUID.randomUUID());
@@ -138,7 +167,8 @@ class PostServiceTest {
 
     @Test
     void create_ShouldCreatePost() {
-        when(linkService.getById(linkId)).thenReturn(link);
+        when(linkService.findById(linkId)).thenReturn(linkDTO);
+        when(linkService.getReference(linkDTO)).thenReturn(link);
         when(postRepository.save(any(Post.class))).thenReturn(post);
 
         final PostResponseDTO result = postService.create(postRequestDTO);
@@ -147,21 +177,22 @@ class PostServiceTest {
         assertThat(result.link()).isEqualTo(link);
         assertThat(result.thumbnail()).isEqualTo("thumbnail.jpg");
         assertThat(result.commentsEnabled()).isTrue();
-        verify(linkService).getById(linkId);
+        verify(linkService).findById(linkId);
         verify(postRepository).save(any(Post.class));
     }
 
     @Test
     void update_WhenPostExists_ShouldUpdatePost() {
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(linkService.getById(linkId)).thenReturn(link);
+        when(linkService.findById(linkId)).thenReturn(linkDTO);
+        when(linkService.getReference(linkDTO)).thenReturn(link);
         when(postRepository.save(any(Post.class))).thenReturn(post);
 
         final PostResponseDTO result = postService.update(postId, postRequestDTO);
 
         assertThat(result.id()).isEqualTo(postId);
         verify(postRepository).findById(postId);
-        verify(linkService).getById(linkId);
+        verify(linkService).findById(linkId);
         verify(postRepository).save(any(Post.class));
     }
 
@@ -176,6 +207,7 @@ class PostServiceTest {
         verify(postRepository).findById(postId);
         verify(postContentRepository).deleteAllByPost(post);
         verify(postRepository).delete(post);
+        verify(eventPublisher).publishEvent(CachePurgeEvent.of(SurrogateKeys.post(postId), SurrogateKeys.POSTS));
     }
 
     @Test
@@ -194,21 +226,23 @@ class PostServiceTest {
     @Test
     void findContentByPostAndLanguage_WhenContentExists_ShouldReturnContent() {
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
+        when(languageService.getReference(languageDTO)).thenReturn(language);
         when(postContentRepository.findByPostAndLanguage(post, language)).thenReturn(Optional.of(postContent));
 
         final PostContentResponseDTO result = postService.findContentByPostAndLanguage(postId, languageId);
 
         assertThat(result.id()).isEqualTo(postContent.getId());
         verify(postRepository).findById(postId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(postContentRepository).findByPostAndLanguage(post, language);
     }
 
     @Test
     void createContent_WhenContentDoesNotExist_ShouldCreateContent() {
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
+        when(languageService.getReference(languageDTO)).thenReturn(language);
         when(postContentRepository.findByPostAndLanguage(post, language)).thenReturn(Optional.empty());
         when(postContentRepository.save(any(PostContent.class))).thenReturn(postContent);
 
@@ -216,7 +250,7 @@ class PostServiceTest {
 
         assertThat(result.id()).isEqualTo(postContent.getId());
         verify(postRepository).findById(postId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(postContentRepository).findByPostAndLanguage(post, language);
         verify(postContentRepository).save(any(PostContent.class));
     }
@@ -224,14 +258,15 @@ class PostServiceTest {
     @Test
     void createContent_WhenContentExists_ShouldThrowException() {
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
+        when(languageService.getReference(languageDTO)).thenReturn(language);
         when(postContentRepository.findByPostAndLanguage(post, language)).thenReturn(Optional.of(postContent));
 
         assertThatThrownBy(() -> postService.createContent(postId, contentRequestDTO))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage(String.format("Content already exists for post %s and language %s", postId, language.getAbbreviation()));
         verify(postRepository).findById(postId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(postContentRepository).findByPostAndLanguage(post, language);
         verify(postContentRepository, never()).save(any(PostContent.class));
     }
@@ -239,7 +274,8 @@ class PostServiceTest {
     @Test
     void updateContent_WhenContentExists_ShouldUpdateContent() {
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
+        when(languageService.getReference(languageDTO)).thenReturn(language);
         when(postContentRepository.findByPostAndLanguage(post, language)).thenReturn(Optional.of(postContent));
         when(postContentRepository.save(any(PostContent.class))).thenReturn(postContent);
 
@@ -247,7 +283,7 @@ class PostServiceTest {
 
         assertThat(result.id()).isEqualTo(postContent.getId());
         verify(postRepository).findById(postId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(postContentRepository).findByPostAndLanguage(post, language);
         verify(postContentRepository).save(any(PostContent.class));
     }
@@ -255,15 +291,57 @@ class PostServiceTest {
     @Test
     void deleteContent_WhenContentExists_ShouldDeleteContent() {
         when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(languageService.getLanguageById(languageId)).thenReturn(language);
+        when(languageService.findById(languageId)).thenReturn(languageDTO);
+        when(languageService.getReference(languageDTO)).thenReturn(language);
         when(postContentRepository.findByPostAndLanguage(post, language)).thenReturn(Optional.of(postContent));
         doNothing().when(postContentRepository).delete(postContent);
 
         postService.deleteContent(postId, languageId);
 
         verify(postRepository).findById(postId);
-        verify(languageService).getLanguageById(languageId);
+        verify(languageService).findById(languageId);
         verify(postContentRepository).findByPostAndLanguage(post, language);
         verify(postContentRepository).delete(postContent);
     }
+
+    @Test
+    void findPage_WhenMoreResultsExist_ShouldReturnSliceWithNextCursor() {
+        when(globalSettingsService.getCurrentSettings()).thenReturn(settingsWithMaxItemsPerPage(10));
+        final Post second = new Post();
+        second.setId(UUID.randomUUID());
+        second.setLink(link);
+        second.setCreatedAt(now.minusMinutes(1));
+        when(postRepository.findByKeyset(isNull(), isNull(), isNull(), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(post, second));
+
+        final CursorPage<PostResponseDTO> result = postService.findPage(null, 1, null, null, null);
+
+        assertThat(result.items()).extracting(PostResponseDTO::id).containsExactly(postId);
+        assertThat(KeysetCursor.decode(result.nextCursor())).isEqualTo(new KeysetCursor(now, postId));
+        verify(postRepository).findByKeyset(null, null, null, null, null, Limit.of(2));
+    }
+
+    @Test
+    void findPage_WhenLastSlice_ShouldCapSizeAndReturnNoCursor() {
+        when(globalSettingsService.getCurrentSettings()).thenReturn(settingsWithMaxItemsPerPage(10));
+        when(postRepository.findByKeyset(true, LinkScope.EXTERNAL, languageId, now, postId, Limit.of(11)))
+                .thenReturn(List.of(post));
+
+        final String cursor = new KeysetCursor(now, postId).encode();
+        final CursorPage<PostResponseDTO> result = postService.findPage(cursor, 50, true, languageId, LinkScope.EXTERNAL);
+
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void findPage_WhenCursorIsMalformed_ShouldThrowException() {
+        assertThatThrownBy(() -> postService.findPage("not-a-cursor", null, null, null, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private GlobalSettingsResponseDTO settingsWithMaxItemsPerPage(final int maxItemsPerPage) {
+        return new GlobalSettingsResponseDTO(null, null, null, null, null, null, null, null, null, null, null,
+                maxItemsPerPage, null, null, null, null);
+    }
 }
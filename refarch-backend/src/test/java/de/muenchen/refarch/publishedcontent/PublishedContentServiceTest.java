@@ -0,0 +1,238 @@
+package de.muenchen.refarch.publishedcontent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import de.muenchen.refarch.common.KeysetCursor;
+import de.muenchen.refarch.globalsettings.GlobalSettingsService;
+import de.muenchen.refarch.globalsettings.dto.GlobalSettingsResponseDTO;
+import de.muenchen.refarch.page.content.dto.PageContentResponseDTO;
+import de.muenchen.refarch.page.dto.PageResponseDTO;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PublishedContentServiceTest {
+
+    @Mock
+    private PublishedContentRepository publishedContentRepository;
+
+    @Mock
+    private GlobalSettingsService globalSettingsService;
+
+    private PublishedContentService publishedContentService;
+
+    private UUID contentId;
+    private UUID languageId;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        publishedContentService = new PublishedContentService(publishedContentRepository,
+                new ObjectMapper().registerModule(new JavaTimeModule()), globalSettingsService);
+        contentId = UUID.randomUUID();
+        languageId = UUID.randomUUID();
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void findDocument_WhenDocumentExists_ShouldReturnStoredJson() {
+        when(publishedContentRepository.findDocument(PublishedContentType.PAGE, contentId, languageId))
+                .thenReturn(Optional.of("{\"id\":1}"));
+
+        assertThat(publishedContentService.findDocument(PublishedContentType.PAGE, contentId, languageId))
+                .isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void findDocument_WhenDocumentDoesNotExist_ShouldThrowException() {
+        when(publishedContentRepository.findDocument(PublishedContentType.PAGE, contentId, languageId))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> publishedContentService.findDocument(PublishedContentType.PAGE, contentId, languageId))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void findDocuments_WhenLastSlice_ShouldJoinStoredJsonWithoutCursor() {
+        when(globalSettingsService.getCurrentSettings()).thenReturn(settingsWithMaxItemsPerPage(10));
+        when(publishedContentRepository.findDocuments(PublishedContentType.POST, languageId, null, null, Limit.of(11)))
+                .thenReturn(List.of(documentRow(UUID.randomUUID(), now, "{\"id\":1}"),
+                        documentRow(UUID.randomUUID(), now.minusDays(1), "{\"id\":2}")));
+
+        assertThat(publishedContentService.findDocuments(PublishedContentType.POST, languageId, null, null))
+                .isEqualTo("{\"items\":[{\"id\":1},{\"id\":2}],\"nextCursor\":null}");
+    }
+
+    @Test
+    void findDocuments_WhenMoreItemsExist_ShouldCapAtRequestedSizeAndReturnCursor() {
+        final UUID secondId = UUID.randomUUID();
+        final LocalDateTime secondCreatedAt = now.minusDays(1);
+        when(globalSettingsService.getCurrentSettings()).thenReturn(settingsWithMaxItemsPerPage(10));
+        when(publishedContentRepository.findDocuments(PublishedContentType.POST, languageId, null, null, Limit.of(3)))
+                .thenReturn(List.of(documentRow(UUID.randomUUID(), now, "{\"id\":1}"),
+                        documentRow(secondId, secondCreatedAt, "{\"id\":2}"),
+                        documentRow(UUID.randomUUID(), now.minusDays(2), "{\"id\":3}")));
+
+        assertThat(publishedContentService.findDocuments(PublishedContentType.POST, languageId, null, 2))
+                .isEqualTo("{\"items\":[{\"id\":1},{\"id\":2}],\"nextCursor\":\""
+                        + new KeysetCursor(secondCreatedAt, secondId).encode() + "\"}");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishPage_WhenPublished_ShouldStoreOneRowPerLanguage() {
+        final PageContentResponseDTO content = new PageContentResponseDTO(
+                UUID.randomUUID(), contentId, languageId, "Title", "Content", null, null, now, now);
+        final PageResponseDTO page = new PageResponseDTO(
+                contentId, UUID.randomUUID(), "thumbnail.jpg", true, true, 0, Set.of(content), now, now);
+
+        publishedContentService.publishPage(page);
+
+        final ArgumentCaptor<List<PublishedContent>> rows = ArgumentCaptor.forClass(List.class);
+        verify(publishedContentRepository).deleteByContent(PublishedContentType.PAGE, contentId);
+        verify(publishedContentRepository).saveAll(rows.capture());
+        assertThat(rows.getValue()).singleElement().satisfies(row -> {
+            assertThat(row.getContentId()).isEqualTo(contentId);
+            assertThat(row.getLanguageId()).isEqualTo(languageId);
+            assertThat(row.getCreatedAt()).isEqualTo(now);
+            assertThat(row.getUpdatedAt()).isNotNull();
+            assertThat(row.getDocument()).contains("\"title\":\"Title\"");
+        });
+    }
+
+    @Test
+    void publishPage_WhenNotPublished_ShouldOnlyRemoveRows() {
+        final PageContentResponseDTO content = new PageContentResponseDTO(
+                UUID.randomUUID(), contentId, languageId, "Title", "Content", null, null, now, now);
+        final PageResponseDTO page = new PageResponseDTO(
+                contentId, UUID.randomUUID(), "thumbnail.jpg", true, false, 0, Set.of(content), now, now);
+
+        publishedContentService.publishPage(page);
+
+        verify(publishedContentRepository).deleteByContent(PublishedContentType.PAGE, contentId);
+        verify(publishedContentRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void findDocumentVersion_ShouldBuildStrongETagFromIdAndUpdatedAt() {
+        final UUID rowId = UUID.randomUUID();
+        when(publishedContentRepository.findDocumentVersion(PublishedContentType.PAGE, contentId, languageId))
+                .thenReturn(Optional.of(documentVersion(rowId, now)));
+
+        final PublishedContentVersion version = publishedContentService.findDocumentVersion(PublishedContentType.PAGE,
+                contentId, languageId);
+
+        assertThat(version.eTag()).startsWith("\"" + rowId + "-").endsWith("\"");
+        assertThat(version.lastModified()).isEqualTo(now.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    @Test
+    void findDocumentVersion_WhenRewritten_ShouldChangeETag() {
+        final UUID rowId = UUID.randomUUID();
+        when(publishedContentRepository.findDocumentVersion(PublishedContentType.PAGE, contentId, languageId))
+                .thenReturn(Optional.of(documentVersion(rowId, now)), Optional.of(documentVersion(rowId, now.plusSeconds(1))));
+
+        assertThat(publishedContentService.findDocumentVersion(PublishedContentType.PAGE, contentId, languageId).eTag())
+                .isNotEqualTo(publishedContentService.findDocumentVersion(PublishedContentType.PAGE, contentId, languageId).eTag());
+    }
+
+    @Test
+    void findDocumentVersion_WhenDocumentDoesNotExist_ShouldThrowException() {
+        when(publishedContentRepository.findDocumentVersion(PublishedContentType.PAGE, contentId, languageId))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> publishedContentService.findDocumentVersion(PublishedContentType.PAGE, contentId, languageId))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void findDocumentsVersion_WhenEmpty_ShouldReturnETagWithoutLastModified() {
+        when(publishedContentRepository.findDocumentsVersion(PublishedContentType.POST, languageId))
+                .thenReturn(documentsVersion(0, null));
+
+        final PublishedContentVersion version = publishedContentService.findDocumentsVersion(PublishedContentType.POST, languageId);
+
+        assertThat(version.eTag()).isEqualTo("\"0-0\"");
+        assertThat(version.lastModifiedMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    void findDocumentsVersion_WhenItemRemoved_ShouldChangeETag() {
+        when(publishedContentRepository.findDocumentsVersion(PublishedContentType.POST, languageId))
+                .thenReturn(documentsVersion(2, now), documentsVersion(1, now));
+
+        assertThat(publishedContentService.findDocumentsVersion(PublishedContentType.POST, languageId).eTag())
+                .isNotEqualTo(publishedContentService.findDocumentsVersion(PublishedContentType.POST, languageId).eTag());
+    }
+
+    private static PublishedContentRepository.DocumentVersion documentVersion(final UUID id, final LocalDateTime updatedAt) {
+        return new PublishedContentRepository.DocumentVersion() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+
+    private static PublishedContentRepository.DocumentsVersion documentsVersion(final long count, final LocalDateTime updatedAt) {
+        return new PublishedContentRepository.DocumentsVersion() {
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+
+    private static PublishedContentRepository.DocumentRow documentRow(final UUID contentId, final LocalDateTime createdAt,
+            final String document) {
+        return new PublishedContentRepository.DocumentRow() {
+            @Override
+            public UUID getContentId() {
+                return contentId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+
+            @Override
+            public String getDocument() {
+                return document;
+            }
+        };
+    }
+
+    private static GlobalSettingsResponseDTO settingsWithMaxItemsPerPage(final Integer maxItemsPerPage) {
+        return new GlobalSettingsResponseDTO(null, null, null, null, null, null, null, null, null, null, null,
+                maxItemsPerPage, null, null, null, null);
+    }
+}
@@ -98,6 +98,16 @@ class RoleServiceTest {
                 .hasMessage("Role not found with name: " + ROLE_TEST);
     }
 
+    @Test
+    void shouldReturnReferenceForRole() {
+        when(roleRepository.getReferenceById(roleId)).thenReturn(role);
+
+        final Role result = roleService.getReference(new RoleResponseDTO(roleId, ROLE_TEST, null, null));
+
+        assertThat(result).isSameAs(role);
+        verify(roleRepository, never()).findById(roleId);
+    }
+
     @Test
     void shouldCreateRoleWithUniqueName() {
         when(roleRepository.existsByName(ROLE_TEST)).thenReturn(false);
@@ -1,7 +1,8 @@
 package de.muenchen.refarch.user;
 
 import de.muenchen.refarch.role.Role;
-import de.muenchen.refarch.role.RoleRepository;
+import de.muenchen.refarch.role.RoleService;
+import de.muenchen.refarch.role.dto.RoleResponseDTO;
 import de.muenchen.refarch.user.dto.UserRequestDTO;
 import de.muenchen.refarch.user.dto.UserResponseDTO;
 import jakarta.persistence.EntityNotFoundException;
@@ -34,7 +35,7 @@ class UserServiceTest {
     private PasswordEncoder passwordEncoder;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleService roleService;
 
     @InjectMocks
     private UserService userService;
@@ -126,7 +127,9 @@ class UserServiceTest {
         when(userRepository.existsByUsername(requestDTO.username())).thenReturn(false);
         when(userRepository.existsByEmail(requestDTO.email())).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(user);
-        when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.of(defaultRole));
+        final RoleResponseDTO defaultRoleDTO = new RoleResponseDTO(defaultRole.getId(), defaultRole.getName(), null, null);
+        when(roleService.getRoleByName("ROLE_USER")).thenReturn(defaultRoleDTO);
+        when(roleService.getReference(defaultRoleDTO)).thenReturn(defaultRole);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
 
         final UserResponseDTO result = userService.createUser(requestDTO);
@@ -134,7 +137,7 @@ class UserServiceTest {
         assertThat(result).isEqualTo(responseDTO);
         verify(userRepository).existsByUsername(requestDTO.username());
         verify(userRepository).existsByEmail(requestDTO.email());
-        verify(roleRepository).findByName("ROLE_USER");
+        verify(roleService).getRoleByName("ROLE_USER");
         verify(passwordEncoder).encode(requestDTO.password());
         verify(userRepository).save(any(User.class));
     }
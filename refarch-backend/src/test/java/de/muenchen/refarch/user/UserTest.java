@@ -0,0 +1,84 @@
+package de.muenchen.refarch.user;
+
+import de.muenchen.refarch.role.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserTest {
+
+    private static final String ROLE_USER = "ROLE_USER";
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    private User user;
+    private Role userRole;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        userRole = createRole(ROLE_USER);
+        user.setRoles(Set.of(userRole));
+    }
+
+    @Test
+    void rolesView_ShouldBeReusedUntilRolesChange() {
+        // Act
+        final Set<Role> first = user.getRoles();
+        final Set<Role> second = user.getRoles();
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(first).extracting(Role::getName).containsExactly(ROLE_USER);
+        assertThat(first.iterator().next()).isNotSameAs(userRole);
+        assertThatThrownBy(() -> first.add(createRole(ROLE_ADMIN)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void addRole_ShouldRefreshRolesView() {
+        // Arrange
+        final Set<Role> before = user.getRoles();
+
+        // Act
+        user.addRole(createRole(ROLE_ADMIN));
+
+        // Assert
+        assertThat(user.getRoles()).isNotSameAs(before)
+                .extracting(Role::getName)
+                .containsExactlyInAnyOrder(ROLE_USER, ROLE_ADMIN);
+    }
+
+    @Test
+    void removeRole_ShouldRefreshRolesView() {
+        // Arrange
+        user.getRoles();
+
+        // Act
+        user.removeRole(userRole);
+
+        // Assert
+        assertThat(user.getRoles()).isEmpty();
+    }
+
+    @Test
+    void setRoles_ShouldAcceptImmutableSetAndAllowLaterChanges() {
+        // Act
+        user.addRole(createRole(ROLE_ADMIN));
+        user.setRoles(null);
+
+        // Assert
+        assertThat(user.getRoles()).isEmpty();
+    }
+
+    private static Role createRole(final String name) {
+        final Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName(name);
+        return role;
+    }
+}